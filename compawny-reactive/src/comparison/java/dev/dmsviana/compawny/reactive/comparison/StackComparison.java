@@ -0,0 +1,205 @@
+package dev.dmsviana.compawny.reactive.comparison;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class StackComparison {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int SEEDED_PETS = 200;
+
+    private StackComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String mvcJar = args[0];
+        String reactiveJar = args[1];
+        int concurrency = Integer.parseInt(args[2]);
+        Duration duration = Duration.ofSeconds(Long.parseLong(args[3]));
+
+        String java = ProcessHandle.current().info().command().orElse("java");
+
+        List<Result> results = new ArrayList<>();
+        results.add(run("mvc", List.of(java, "-jar", mvcJar), concurrency, duration));
+        results.add(run("reactive", List.of(java, "-jar", reactiveJar), concurrency, duration));
+
+        System.out.printf("%n%-10s %12s %10s %10s %10s %10s %8s%n",
+                "stack", "requests/s", "p50 ms", "p99 ms", "max ms", "errors", "threads");
+        results.forEach(result -> System.out.printf("%-10s %12.1f %10.2f %10.2f %10.2f %10d %8d%n",
+                result.stack(), result.throughput(), result.p50(), result.p99(), result.max(),
+                result.errors(), result.threads()));
+    }
+
+    private static Result run(String stack, List<String> command, int concurrency, Duration duration) throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        List<String> fullCommand = new ArrayList<>(command);
+        fullCommand.add("--server.port=" + port);
+        fullCommand.add("--compawny.ratelimit.enabled=false");
+        fullCommand.add("--management.endpoints.web.exposure.include=health,metrics");
+        fullCommand.add("--compawny.caregiver.max-pets=" + SEEDED_PETS);
+
+        Process process = new ProcessBuilder(fullCommand)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        String baseUrl = "http://localhost:" + port;
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        try {
+            awaitReady(client, baseUrl);
+            seed(client, baseUrl);
+            return drive(stack, client, baseUrl, concurrency, duration);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static void seed(HttpClient client, String baseUrl) throws Exception {
+        String caregiver = post(client, baseUrl + "/api/v1/caregivers", Map.of(
+                "name", "Load",
+                "cpf", "52998224725",
+                "email", "load@example.com",
+                "phone", "(11) 99999-9999",
+                "hourlyRate", 50
+        ));
+        long caregiverId = MAPPER.readTree(caregiver).get("id").asLong();
+        for (int i = 0; i < SEEDED_PETS; i++) {
+            post(client, baseUrl + "/api/v1/pets", Map.of(
+                    "name", "Pet " + i,
+                    "registrationNumber", "LOAD-" + i,
+                    "type", i % 2 == 0 ? "DOG" : "CAT",
+                    "breed", "Mixed",
+                    "birthDate", "2021-05-01",
+                    "caregiverId", caregiverId
+            ));
+        }
+    }
+
+    private static Result drive(String stack, HttpClient client, String baseUrl, int concurrency, Duration duration)
+            throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<long[]> latencies = new ArrayList<>();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong peakThreads = new AtomicLong();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                long[] samples = new long[1 << 16];
+                latencies.add(samples);
+                int offset = worker;
+                workers.submit(() -> {
+                    int count = 0;
+                    while (System.nanoTime() < deadline && count < samples.length - 1) {
+                        String path = count % 10 == 0
+                                ? "/api/v1/pets/" + (1 + (offset + count) % SEEDED_PETS)
+                                : "/api/v1/pets?size=20&page=" + ((offset + count) % 10);
+                        long started = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(
+                                    HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build(),
+                                    HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        samples[++count] = System.nanoTime() - started;
+                    }
+                    samples[0] = count;
+                    return null;
+                });
+            }
+            workers.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    peakThreads.accumulateAndGet(liveThreads(client, baseUrl), Math::max);
+                    Thread.sleep(500);
+                }
+                return null;
+            });
+        }
+
+        long[] all = latencies.stream()
+                .flatMapToLong(samples -> Arrays.stream(samples, 1, (int) samples[0] + 1))
+                .sorted()
+                .toArray();
+        return new Result(
+                stack,
+                all.length / (double) duration.toSeconds(),
+                percentile(all, 0.50),
+                percentile(all, 0.99),
+                all.length == 0 ? 0 : all[all.length - 1] / 1_000_000.0,
+                errors.get(),
+                peakThreads.get()
+        );
+    }
+
+    private static long liveThreads(HttpClient client, String baseUrl) {
+        try {
+            String body = client.send(
+                    HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/jvm.threads.live")).GET().build(),
+                    HttpResponse.BodyHandlers.ofString()).body();
+            return MAPPER.readTree(body).get("measurements").get(0).get("value").asLong();
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static String post(HttpClient client, String url, Map<String, Object> body) throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(url))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(body)))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("Seeding failed with " + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+
+    private static void awaitReady(HttpClient client, String baseUrl) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(60).toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                HttpResponse<Void> response = client.send(
+                        HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health")).GET().build(),
+                        HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException e) {
+                Thread.sleep(100);
+            }
+        }
+        throw new IllegalStateException("Application at " + baseUrl + " did not start");
+    }
+
+    private record Result(String stack, double throughput, double p50, double p99, double max,
+                          long errors, long threads) {
+    }
+}
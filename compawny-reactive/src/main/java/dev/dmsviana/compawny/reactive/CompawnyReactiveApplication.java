@@ -0,0 +1,23 @@
+package dev.dmsviana.compawny.reactive;
+
+import dev.dmsviana.compawny.business.config.properties.CaregiverProperties;
+import dev.dmsviana.compawny.business.config.properties.TenancyProperties;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
+
+@SpringBootApplication
+@EnableR2dbcAuditing
+@EnableConfigurationProperties({CaregiverProperties.class, TenancyProperties.class})
+public class CompawnyReactiveApplication {
+
+	public static void main(String[] args) {
+		// The MVC application's application.yml is on the classpath too; keep its servlet/JPA settings out.
+		if (System.getProperty("spring.config.name") == null) {
+			System.setProperty("spring.config.name", "reactive");
+		}
+		SpringApplication.run(CompawnyReactiveApplication.class, args);
+	}
+
+}
@@ -0,0 +1,40 @@
+package dev.dmsviana.compawny.reactive.business.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.r2dbc.connection.init.ConnectionFactoryInitializer;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+@Configuration
+@ConditionalOnProperty(prefix = "compawny.reactive.schema", name = "initialize", havingValue = "true", matchIfMissing = true)
+public class SchemaInitializerConfig {
+
+    private static final String MIGRATIONS = "classpath*:db/migration/V*__*.sql";
+
+    @Bean
+    public ConnectionFactoryInitializer schemaInitializer(
+            ConnectionFactory connectionFactory,
+            ResourcePatternResolver resourcePatternResolver
+    ) throws IOException {
+        Resource[] scripts = resourcePatternResolver.getResources(MIGRATIONS);
+        Arrays.sort(scripts, Comparator.comparingInt(SchemaInitializerConfig::version));
+
+        ConnectionFactoryInitializer initializer = new ConnectionFactoryInitializer();
+        initializer.setConnectionFactory(connectionFactory);
+        initializer.setDatabasePopulator(new ResourceDatabasePopulator(scripts));
+        return initializer;
+    }
+
+    private static int version(Resource script) {
+        String filename = script.getFilename();
+        return Integer.parseInt(filename.substring(1, filename.indexOf("__")));
+    }
+}
@@ -0,0 +1,18 @@
+package dev.dmsviana.compawny.reactive.business.context;
+
+import reactor.core.publisher.Mono;
+
+public final class ReactiveTenantContext {
+
+    // A request may hop threads between operators, so the tenant rides the Reactor context, not a ThreadLocal.
+    public static final String KEY = ReactiveTenantContext.class.getName();
+
+    private ReactiveTenantContext() {
+    }
+
+    public static Mono<String> currentTenant() {
+        return Mono.deferContextual(context -> context.<String>getOrEmpty(KEY)
+                .map(Mono::just)
+                .orElseGet(() -> Mono.error(new IllegalArgumentException("tenant.invalid"))));
+    }
+}
@@ -0,0 +1,126 @@
+package dev.dmsviana.compawny.reactive.business.service;
+
+import dev.dmsviana.compawny.business.config.properties.CaregiverProperties;
+import dev.dmsviana.compawny.model.repository.exception.CaregiverCapacityExceededException;
+import dev.dmsviana.compawny.model.repository.exception.EntityAlreadyExistsException;
+import dev.dmsviana.compawny.model.repository.exception.EntityNotFoundException;
+import dev.dmsviana.compawny.presentation.dto.caregiver.CaregiverResponseDto;
+import dev.dmsviana.compawny.presentation.dto.caregiver.CreateCaregiverRequestDto;
+import dev.dmsviana.compawny.presentation.dto.caregiver.UpdateCaregiverRequestDto;
+import dev.dmsviana.compawny.presentation.dto.page.PageResponseDto;
+import dev.dmsviana.compawny.reactive.business.context.ReactiveTenantContext;
+import dev.dmsviana.compawny.reactive.model.entity.Caregiver;
+import dev.dmsviana.compawny.reactive.model.repository.ReactiveCaregiverRepository;
+import dev.dmsviana.compawny.reactive.model.repository.ReactivePetRepository;
+import dev.dmsviana.compawny.reactive.presentation.mapper.ReactiveCaregiverMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveCaregiverService {
+
+    private static final EntityNotFoundException CAREGIVER_NOT_FOUND =
+            new EntityNotFoundException("caregiver.notFound");
+    private static final EntityAlreadyExistsException CPF_DUPLICATE =
+            new EntityAlreadyExistsException("caregiver.cpf.duplicate");
+    private static final EntityAlreadyExistsException EMAIL_DUPLICATE =
+            new EntityAlreadyExistsException("caregiver.email.duplicate");
+    private static final CaregiverCapacityExceededException CAPACITY_EXCEEDED =
+            new CaregiverCapacityExceededException("caregiver.capacity.exceeded");
+
+    private final ReactiveCaregiverRepository caregiverRepository;
+    private final ReactivePetRepository petRepository;
+    private final ReactiveCaregiverMapper caregiverMapper;
+    private final CaregiverProperties caregiverProperties;
+
+    public Mono<CaregiverResponseDto> create(CreateCaregiverRequestDto requestDto) {
+        Caregiver caregiver = caregiverMapper.toEntity(requestDto);
+        return ReactiveTenantContext.currentTenant()
+                .flatMap(tenantId -> {
+                    caregiver.setTenantId(tenantId);
+                    return caregiverRepository.save(caregiver);
+                })
+                .onErrorMap(DataIntegrityViolationException.class, this::translate)
+                .map(caregiverMapper::toDto);
+    }
+
+    public Mono<PageResponseDto<CaregiverResponseDto>> findAll(Pageable pageable) {
+        return ReactiveTenantContext.currentTenant()
+                .flatMap(tenantId -> Mono.zip(
+                        caregiverRepository.findAllByTenantIdAndDeletedFalse(tenantId, pageable)
+                                .map(caregiverMapper::toDto)
+                                .collectList(),
+                        caregiverRepository.countByTenantIdAndDeletedFalse(tenantId)))
+                .map(page -> PageResponseDto.of(new PageImpl<>(page.getT1(), pageable, page.getT2())));
+    }
+
+    public Mono<CaregiverResponseDto> findById(Long id) {
+        return getCaregiverById(id).map(caregiverMapper::toDto);
+    }
+
+    public Mono<Map<Long, CaregiverResponseDto>> findActiveByIds(Collection<Long> ids) {
+        return ReactiveTenantContext.currentTenant()
+                .flatMapMany(tenantId -> caregiverRepository.findAllByIdInAndTenantIdAndDeletedFalse(ids, tenantId))
+                .collectMap(Caregiver::getId, caregiverMapper::toDto);
+    }
+
+    public Mono<CaregiverResponseDto> update(Long id, UpdateCaregiverRequestDto requestDto) {
+        return getCaregiverById(id)
+                .flatMap(caregiver -> {
+                    caregiverMapper.updateEntityFromDto(requestDto, caregiver);
+                    return caregiverRepository.save(caregiver);
+                })
+                .map(caregiverMapper::toDto);
+    }
+
+    @Transactional
+    public Mono<Void> delete(Long id) {
+        return getCaregiverById(id)
+                .flatMap(caregiver -> caregiverRepository.softDelete(id, caregiver.getTenantId())
+                        .then(petRepository.detachCaregiver(id, caregiver.getTenantId())))
+                .doOnNext(detached -> log.info("Caregiver {} deleted, {} pets detached", id, detached))
+                .then();
+    }
+
+    public Mono<Void> reserveSlot(Long id) {
+        return ReactiveTenantContext.currentTenant()
+                .flatMap(tenantId -> caregiverRepository.reserveSlot(id, tenantId, caregiverProperties.getMaxPets()))
+                .flatMap(updated -> updated == 1
+                        ? Mono.empty()
+                        : getCaregiverById(id).then(Mono.error(CAPACITY_EXCEEDED)));
+    }
+
+    public Mono<Void> releaseSlot(Long id) {
+        return ReactiveTenantContext.currentTenant()
+                .flatMap(tenantId -> caregiverRepository.releaseSlot(id, tenantId))
+                .then();
+    }
+
+    private Mono<Caregiver> getCaregiverById(Long id) {
+        return ReactiveTenantContext.currentTenant()
+                .flatMap(tenantId -> caregiverRepository.findByIdAndTenantIdAndDeletedFalse(id, tenantId))
+                .switchIfEmpty(Mono.error(CAREGIVER_NOT_FOUND));
+    }
+
+    private Throwable translate(DataIntegrityViolationException e) {
+        String message = String.valueOf(e.getMessage()).toLowerCase();
+        if (message.contains("uk_caregiver_tenant_cpf")) {
+            return CPF_DUPLICATE;
+        }
+        if (message.contains("uk_caregiver_tenant_email")) {
+            return EMAIL_DUPLICATE;
+        }
+        return e;
+    }
+}
@@ -0,0 +1,137 @@
+package dev.dmsviana.compawny.reactive.business.service;
+
+import dev.dmsviana.compawny.model.repository.exception.EntityAlreadyExistsException;
+import dev.dmsviana.compawny.model.repository.exception.EntityNotFoundException;
+import dev.dmsviana.compawny.presentation.dto.caregiver.CaregiverResponseDto;
+import dev.dmsviana.compawny.presentation.dto.page.PageResponseDto;
+import dev.dmsviana.compawny.presentation.dto.pet.CreatePetRequestDto;
+import dev.dmsviana.compawny.presentation.dto.pet.PetResponseDto;
+import dev.dmsviana.compawny.presentation.dto.pet.UpdatePetRequestDto;
+import dev.dmsviana.compawny.reactive.business.context.ReactiveTenantContext;
+import dev.dmsviana.compawny.reactive.model.entity.Pet;
+import dev.dmsviana.compawny.reactive.model.repository.ReactivePetRepository;
+import dev.dmsviana.compawny.reactive.presentation.mapper.ReactivePetMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactivePetService {
+
+    private static final EntityNotFoundException PET_NOT_FOUND =
+            new EntityNotFoundException("pet.notFound");
+    private static final EntityAlreadyExistsException REGISTRATION_DUPLICATE =
+            new EntityAlreadyExistsException("pet.registration.duplicate");
+
+    private final ReactivePetRepository petRepository;
+    private final ReactivePetMapper petMapper;
+    private final ReactiveCaregiverService caregiverService;
+
+    @Transactional
+    public Mono<PetResponseDto> create(CreatePetRequestDto requestDto) {
+        Pet pet = petMapper.toEntity(requestDto);
+        Mono<Void> reservation = pet.getCaregiverId() == null
+                ? Mono.empty()
+                : caregiverService.reserveSlot(pet.getCaregiverId());
+
+        return ReactiveTenantContext.currentTenant()
+                .doOnNext(pet::setTenantId)
+                .then(reservation)
+                .then(Mono.defer(() -> petRepository.save(pet)))
+                .onErrorMap(DataIntegrityViolationException.class, this::translate)
+                .flatMap(this::toDto);
+    }
+
+    public Mono<PageResponseDto<PetResponseDto>> findAll(Pageable pageable) {
+        return ReactiveTenantContext.currentTenant()
+                .flatMap(tenantId -> Mono.zip(
+                        petRepository.findAllByTenantIdAndDeletedFalse(tenantId, pageable).collectList(),
+                        petRepository.countByTenantIdAndDeletedFalse(tenantId)))
+                .flatMap(page -> withCaregivers(page.getT1())
+                        .map(content -> PageResponseDto.of(new PageImpl<>(content, pageable, page.getT2()))));
+    }
+
+    public Mono<PetResponseDto> findById(Long id) {
+        return getPetById(id).flatMap(this::toDto);
+    }
+
+    @Transactional
+    public Mono<PetResponseDto> update(Long id, UpdatePetRequestDto requestDto) {
+        return getPetById(id)
+                .flatMap(pet -> {
+                    Long currentCaregiverId = pet.getCaregiverId();
+                    petMapper.updateEntityFromDto(requestDto, pet);
+                    pet.setCaregiverId(requestDto.getCaregiverId());
+                    return moveSlot(currentCaregiverId, requestDto.getCaregiverId())
+                            .then(Mono.defer(() -> petRepository.save(pet)));
+                })
+                .flatMap(this::toDto);
+    }
+
+    @Transactional
+    public Mono<Void> delete(Long id) {
+        return getPetById(id)
+                .flatMap(pet -> petRepository.deleteByIdAndTenantId(pet.getId(), pet.getTenantId())
+                        .then(pet.getCaregiverId() == null
+                                ? Mono.empty()
+                                : caregiverService.releaseSlot(pet.getCaregiverId())));
+    }
+
+    private Mono<Void> moveSlot(Long from, Long to) {
+        if (Objects.equals(from, to)) {
+            return Mono.empty();
+        }
+        Mono<Void> release = from == null ? Mono.empty() : caregiverService.releaseSlot(from);
+        Mono<Void> reserve = to == null ? Mono.empty() : caregiverService.reserveSlot(to);
+        // Same id ordering as the MVC service, so both stacks lock caregiver rows in one order.
+        return from != null && (to == null || from < to) ? release.then(reserve) : reserve.then(release);
+    }
+
+    private Mono<Pet> getPetById(Long id) {
+        return ReactiveTenantContext.currentTenant()
+                .flatMap(tenantId -> petRepository.findByIdAndTenantIdAndDeletedFalse(id, tenantId))
+                .switchIfEmpty(Mono.error(PET_NOT_FOUND));
+    }
+
+    private Mono<PetResponseDto> toDto(Pet pet) {
+        return withCaregivers(List.of(pet)).map(List::getFirst);
+    }
+
+    private Mono<List<PetResponseDto>> withCaregivers(List<Pet> pets) {
+        List<Long> caregiverIds = pets.stream()
+                .map(Pet::getCaregiverId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Mono<Map<Long, CaregiverResponseDto>> caregivers = caregiverIds.isEmpty()
+                ? Mono.just(Map.of())
+                : caregiverService.findActiveByIds(caregiverIds);
+
+        return caregivers.map(byId -> pets.stream()
+                .map(pet -> {
+                    PetResponseDto dto = petMapper.toDto(pet);
+                    dto.setCaregiver(pet.getCaregiverId() == null ? null : byId.get(pet.getCaregiverId()));
+                    return dto;
+                })
+                .toList());
+    }
+
+    private Throwable translate(DataIntegrityViolationException e) {
+        if (String.valueOf(e.getMessage()).toLowerCase().contains("uk_pet_tenant_registration_number")) {
+            log.debug("Registration number already exists");
+            return REGISTRATION_DUPLICATE;
+        }
+        return e;
+    }
+}
@@ -0,0 +1,45 @@
+package dev.dmsviana.compawny.reactive.model.entity;
+
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("caregivers")
+public class Caregiver {
+
+    @Id
+    private Long id;
+    private String tenantId;
+    private String name;
+    private String cpf;
+    private String email;
+    private String phone;
+    private String description;
+    private BigDecimal hourlyRate;
+
+    @Builder.Default
+    private Boolean available = true;
+
+    @Builder.Default
+    private Boolean deleted = false;
+
+    @ReadOnlyProperty
+    private Integer assignedPets;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,39 @@
+package dev.dmsviana.compawny.reactive.model.entity;
+
+import dev.dmsviana.compawny.model.entity.types.PetType;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("pets")
+public class Pet {
+
+    @Id
+    private Long id;
+    private String tenantId;
+    private String name;
+    private String registrationNumber;
+    private PetType type;
+    private String breed;
+    private LocalDate birthDate;
+    private Long caregiverId;
+
+    @Builder.Default
+    private Boolean deleted = false;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,38 @@
+package dev.dmsviana.compawny.reactive.model.repository;
+
+import dev.dmsviana.compawny.reactive.model.entity.Caregiver;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+public interface ReactiveCaregiverRepository extends R2dbcRepository<Caregiver, Long> {
+
+    Mono<Caregiver> findByIdAndTenantIdAndDeletedFalse(Long id, String tenantId);
+
+    Flux<Caregiver> findAllByIdInAndTenantIdAndDeletedFalse(Collection<Long> ids, String tenantId);
+
+    Flux<Caregiver> findAllByTenantIdAndDeletedFalse(String tenantId, Pageable pageable);
+
+    Mono<Long> countByTenantIdAndDeletedFalse(String tenantId);
+
+    @Modifying
+    @Query("UPDATE caregivers SET assigned_pets = assigned_pets + 1 " +
+            "WHERE id = :id AND tenant_id = :tenantId AND deleted = false AND assigned_pets < :maxPets")
+    Mono<Integer> reserveSlot(@Param("id") Long id, @Param("tenantId") String tenantId, @Param("maxPets") int maxPets);
+
+    @Modifying
+    @Query("UPDATE caregivers SET assigned_pets = CASE WHEN assigned_pets > 0 THEN assigned_pets - 1 ELSE 0 END " +
+            "WHERE id = :id AND tenant_id = :tenantId")
+    Mono<Integer> releaseSlot(@Param("id") Long id, @Param("tenantId") String tenantId);
+
+    @Modifying
+    @Query("UPDATE caregivers SET deleted = true, assigned_pets = 0, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE id = :id AND tenant_id = :tenantId")
+    Mono<Integer> softDelete(@Param("id") Long id, @Param("tenantId") String tenantId);
+}
@@ -0,0 +1,28 @@
+package dev.dmsviana.compawny.reactive.model.repository;
+
+import dev.dmsviana.compawny.reactive.model.entity.Pet;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactivePetRepository extends R2dbcRepository<Pet, Long> {
+
+    Mono<Pet> findByIdAndTenantIdAndDeletedFalse(Long id, String tenantId);
+
+    Flux<Pet> findAllByTenantIdAndDeletedFalse(String tenantId, Pageable pageable);
+
+    Mono<Long> countByTenantIdAndDeletedFalse(String tenantId);
+
+    @Modifying
+    @Query("UPDATE pets SET caregiver_id = NULL, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE caregiver_id = :caregiverId AND tenant_id = :tenantId")
+    Mono<Integer> detachCaregiver(@Param("caregiverId") Long caregiverId, @Param("tenantId") String tenantId);
+
+    @Modifying
+    @Query("DELETE FROM pets WHERE id = :id AND tenant_id = :tenantId")
+    Mono<Integer> deleteByIdAndTenantId(@Param("id") Long id, @Param("tenantId") String tenantId);
+}
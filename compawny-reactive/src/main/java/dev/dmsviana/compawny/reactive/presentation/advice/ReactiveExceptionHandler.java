@@ -0,0 +1,92 @@
+package dev.dmsviana.compawny.reactive.presentation.advice;
+
+import dev.dmsviana.compawny.model.exception.CompawnyBusinessException;
+import dev.dmsviana.compawny.model.repository.exception.EntityAlreadyExistsException;
+import dev.dmsviana.compawny.model.repository.exception.EntityNotFoundException;
+import dev.dmsviana.compawny.presentation.dto.error.ErrorResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    private static final Clock CLOCK = Clock.systemDefaultZone();
+
+    @ExceptionHandler(EntityNotFoundException.class)
+    public ResponseEntity<ErrorResponseDto> handleEntityNotFound(
+            EntityNotFoundException ex,
+            ServerWebExchange exchange) {
+        return respond(HttpStatus.NOT_FOUND, ex.getMessage(), ex.getMetadata(), exchange);
+    }
+
+    @ExceptionHandler(EntityAlreadyExistsException.class)
+    public ResponseEntity<ErrorResponseDto> handleEntityAlreadyExists(
+            EntityAlreadyExistsException ex,
+            ServerWebExchange exchange) {
+        return respond(HttpStatus.CONFLICT, ex.getMessage(), ex.getMetadata(), exchange);
+    }
+
+    @ExceptionHandler(CompawnyBusinessException.class)
+    public ResponseEntity<ErrorResponseDto> handleBusinessException(
+            CompawnyBusinessException ex,
+            ServerWebExchange exchange) {
+        return respond(ex.getStatus(), ex.getMessage(), ex.getMetadata(), exchange);
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponseDto> handleValidation(
+            WebExchangeBindException e,
+            ServerWebExchange exchange) {
+        Map<String, Object> errors = new HashMap<>();
+        e.getFieldErrors().forEach(fieldErr -> errors.put(
+                "field[" + fieldErr.getField() + "]",
+                fieldErr.getDefaultMessage()
+        ));
+        return respond(HttpStatus.BAD_REQUEST, "Ops! Não conseguimos processar a sua requisição",
+                Map.of("errors", errors), exchange);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponseDto> handleIllegalArgumentException(
+            IllegalArgumentException e,
+            ServerWebExchange exchange) {
+        return respond(HttpStatus.BAD_REQUEST, e.getMessage(), Map.of(), exchange);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponseDto> handleGenericException(
+            Exception e,
+            ServerWebExchange exchange) {
+        log.error("Unexpected error", e);
+        return respond(HttpStatus.INTERNAL_SERVER_ERROR, "Ops! Algo não deu certo",
+                Map.of("description", String.valueOf(e.getMessage())), exchange);
+    }
+
+    private ResponseEntity<ErrorResponseDto> respond(
+            HttpStatus status,
+            String message,
+            Map<String, Object> metadata,
+            ServerWebExchange exchange
+    ) {
+        var error = new ErrorResponseDto(
+                status.value(),
+                status,
+                message,
+                metadata,
+                exchange.getRequest().getPath().value(),
+                LocalDateTime.now(CLOCK)
+        );
+        return ResponseEntity.status(status).body(error);
+    }
+}
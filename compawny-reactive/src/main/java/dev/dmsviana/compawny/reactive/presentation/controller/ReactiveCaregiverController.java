@@ -0,0 +1,56 @@
+package dev.dmsviana.compawny.reactive.presentation.controller;
+
+import dev.dmsviana.compawny.presentation.dto.caregiver.CaregiverResponseDto;
+import dev.dmsviana.compawny.presentation.dto.caregiver.CreateCaregiverRequestDto;
+import dev.dmsviana.compawny.presentation.dto.caregiver.UpdateCaregiverRequestDto;
+import dev.dmsviana.compawny.presentation.dto.page.PageResponseDto;
+import dev.dmsviana.compawny.reactive.business.service.ReactiveCaregiverService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.http.HttpStatus.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/caregivers")
+public class ReactiveCaregiverController {
+
+    private final ReactiveCaregiverService caregiverService;
+
+    @PostMapping
+    @ResponseStatus(CREATED)
+    public Mono<CaregiverResponseDto> create(@Valid @RequestBody CreateCaregiverRequestDto requestDto) {
+        return caregiverService.create(requestDto);
+    }
+
+    @GetMapping
+    @ResponseStatus(OK)
+    public Mono<PageResponseDto<CaregiverResponseDto>> getAll(@PageableDefault(sort = "name") Pageable pageable) {
+        return caregiverService.findAll(pageable);
+    }
+
+    @GetMapping("/{id}")
+    @ResponseStatus(OK)
+    public Mono<CaregiverResponseDto> getById(@PathVariable Long id) {
+        return caregiverService.findById(id);
+    }
+
+    @PutMapping("/{id}")
+    @ResponseStatus(OK)
+    public Mono<CaregiverResponseDto> update(
+            @PathVariable Long id,
+            @RequestBody @Valid UpdateCaregiverRequestDto requestDto
+    ) {
+        return caregiverService.update(id, requestDto);
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(NO_CONTENT)
+    public Mono<Void> delete(@PathVariable Long id) {
+        return caregiverService.delete(id);
+    }
+}
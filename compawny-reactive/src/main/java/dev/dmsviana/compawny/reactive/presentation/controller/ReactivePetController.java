@@ -0,0 +1,53 @@
+package dev.dmsviana.compawny.reactive.presentation.controller;
+
+import dev.dmsviana.compawny.presentation.dto.page.PageResponseDto;
+import dev.dmsviana.compawny.presentation.dto.pet.CreatePetRequestDto;
+import dev.dmsviana.compawny.presentation.dto.pet.PetResponseDto;
+import dev.dmsviana.compawny.presentation.dto.pet.UpdatePetRequestDto;
+import dev.dmsviana.compawny.reactive.business.service.ReactivePetService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.http.HttpStatus.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/pets")
+public class ReactivePetController {
+
+    private final ReactivePetService petService;
+
+    @PostMapping
+    @ResponseStatus(CREATED)
+    public Mono<PetResponseDto> create(@Valid @RequestBody CreatePetRequestDto request) {
+        return petService.create(request);
+    }
+
+    @GetMapping
+    @ResponseStatus(OK)
+    public Mono<PageResponseDto<PetResponseDto>> getAll(@PageableDefault(sort = "name") Pageable pageable) {
+        return petService.findAll(pageable);
+    }
+
+    @GetMapping("/{id}")
+    @ResponseStatus(OK)
+    public Mono<PetResponseDto> getById(@PathVariable Long id) {
+        return petService.findById(id);
+    }
+
+    @PutMapping("/{id}")
+    @ResponseStatus(OK)
+    public Mono<PetResponseDto> update(@PathVariable Long id, @Valid @RequestBody UpdatePetRequestDto request) {
+        return petService.update(id, request);
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(NO_CONTENT)
+    public Mono<Void> delete(@PathVariable Long id) {
+        return petService.delete(id);
+    }
+}
@@ -0,0 +1,42 @@
+package dev.dmsviana.compawny.reactive.presentation.filter;
+
+import dev.dmsviana.compawny.business.config.properties.TenancyProperties;
+import dev.dmsviana.compawny.business.context.TenantContext;
+import dev.dmsviana.compawny.reactive.business.context.ReactiveTenantContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@RequiredArgsConstructor
+public class ReactiveTenantFilter implements WebFilter {
+
+    public static final String TENANT_ID_HEADER = "X-Tenant-Id";
+
+    private final TenancyProperties properties;
+
+    // A missing or invalid tenant leaves the context empty; the services then fail with tenant.invalid,
+    // which reaches the exception handler as the same 400 the MVC stack returns.
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!exchange.getRequest().getPath().value().startsWith("/api/")) {
+            return chain.filter(exchange);
+        }
+        String tenantId = exchange.getRequest().getHeaders().getFirst(TENANT_ID_HEADER);
+        if (tenantId == null && !properties.isRequireTenant()) {
+            tenantId = TenantContext.DEFAULT_TENANT;
+        }
+        if (!TenantContext.isValid(tenantId)) {
+            return chain.filter(exchange);
+        }
+        String resolved = tenantId;
+        return chain.filter(exchange)
+                .contextWrite(context -> context.put(ReactiveTenantContext.KEY, resolved));
+    }
+}
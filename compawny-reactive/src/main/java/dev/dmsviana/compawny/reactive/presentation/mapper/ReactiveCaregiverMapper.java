@@ -0,0 +1,22 @@
+package dev.dmsviana.compawny.reactive.presentation.mapper;
+
+import dev.dmsviana.compawny.presentation.dto.caregiver.CaregiverResponseDto;
+import dev.dmsviana.compawny.presentation.dto.caregiver.CreateCaregiverRequestDto;
+import dev.dmsviana.compawny.presentation.dto.caregiver.UpdateCaregiverRequestDto;
+import dev.dmsviana.compawny.reactive.model.entity.Caregiver;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface ReactiveCaregiverMapper {
+
+    Caregiver toEntity(CreateCaregiverRequestDto dto);
+
+    CaregiverResponseDto toDto(Caregiver entity);
+
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    void updateEntityFromDto(UpdateCaregiverRequestDto dto, @MappingTarget Caregiver entity);
+}
@@ -0,0 +1,22 @@
+package dev.dmsviana.compawny.reactive.presentation.mapper;
+
+import dev.dmsviana.compawny.presentation.dto.pet.CreatePetRequestDto;
+import dev.dmsviana.compawny.presentation.dto.pet.PetResponseDto;
+import dev.dmsviana.compawny.presentation.dto.pet.UpdatePetRequestDto;
+import dev.dmsviana.compawny.reactive.model.entity.Pet;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface ReactivePetMapper {
+
+    Pet toEntity(CreatePetRequestDto dto);
+
+    @Mapping(target = "caregiver", ignore = true)
+    PetResponseDto toDto(Pet entity);
+
+    @Mapping(target = "caregiverId", ignore = true)
+    void updateEntityFromDto(UpdatePetRequestDto dto, @MappingTarget Pet entity);
+}
@@ -0,0 +1,160 @@
+package dev.dmsviana.compawny.reactive.web;
+
+import dev.dmsviana.compawny.model.entity.types.PetType;
+import dev.dmsviana.compawny.presentation.dto.caregiver.CaregiverResponseDto;
+import dev.dmsviana.compawny.presentation.dto.caregiver.CreateCaregiverRequestDto;
+import dev.dmsviana.compawny.presentation.dto.pet.CreatePetRequestDto;
+import dev.dmsviana.compawny.presentation.dto.pet.PetResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@AutoConfigureWebTestClient
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.config.name=reactive",
+                "spring.r2dbc.url=r2dbc:h2:mem:///reactive-test;DB_CLOSE_DELAY=-1",
+                "compawny.caregiver.max-pets=1"
+        }
+)
+class ReactiveApiTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @Test
+    @DisplayName("Should serve the pet and caregiver routes with the MVC payloads")
+    void shouldServePetAndCaregiverRoutes() {
+        CaregiverResponseDto caregiver = client.post().uri("/api/v1/caregivers")
+                .bodyValue(CreateCaregiverRequestDto.builder()
+                        .name("John")
+                        .cpf("52998224725")
+                        .email("john@example.com")
+                        .phone("(11) 99999-9999")
+                        .hourlyRate(BigDecimal.valueOf(50))
+                        .build())
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(CaregiverResponseDto.class)
+                .returnResult().getResponseBody();
+
+        PetResponseDto pet = client.post().uri("/api/v1/pets")
+                .bodyValue(pet("REACTIVE-1", caregiver.getId()))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(PetResponseDto.class)
+                .returnResult().getResponseBody();
+
+        assertThat(pet.getCaregiver().getId()).isEqualTo(caregiver.getId());
+
+        client.get().uri("/api/v1/pets?size=5")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalElements").isEqualTo(1)
+                .jsonPath("$.content[0].caregiver.name").isEqualTo("John");
+
+        client.post().uri("/api/v1/pets")
+                .bodyValue(pet("REACTIVE-1", null))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("pet.registration.duplicate");
+
+        client.post().uri("/api/v1/pets")
+                .bodyValue(pet("REACTIVE-2", caregiver.getId()))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("caregiver.capacity.exceeded");
+
+        client.get().uri("/api/v1/pets/999999")
+                .exchange()
+                .expectStatus().isNotFound();
+
+        client.delete().uri("/api/v1/caregivers/" + caregiver.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+
+        client.get().uri("/api/v1/pets/" + pet.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.caregiver").doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should scope reactive reads and unique keys to the X-Tenant-Id tenant")
+    void shouldScopeRoutesToTenant() {
+        CaregiverResponseDto caregiver = client.post().uri("/api/v1/caregivers")
+                .header("X-Tenant-Id", "clinic-a")
+                .bodyValue(CreateCaregiverRequestDto.builder()
+                        .name("Anna")
+                        .cpf("11144477735")
+                        .email("anna@example.com")
+                        .phone("(11) 98888-8888")
+                        .hourlyRate(BigDecimal.valueOf(40))
+                        .build())
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(CaregiverResponseDto.class)
+                .returnResult().getResponseBody();
+
+        client.get().uri("/api/v1/caregivers/" + caregiver.getId())
+                .header("X-Tenant-Id", "clinic-b")
+                .exchange()
+                .expectStatus().isNotFound();
+
+        client.post().uri("/api/v1/pets")
+                .header("X-Tenant-Id", "clinic-b")
+                .bodyValue(pet("TENANT-1", caregiver.getId()))
+                .exchange()
+                .expectStatus().isNotFound();
+
+        client.post().uri("/api/v1/pets")
+                .header("X-Tenant-Id", "clinic-a")
+                .bodyValue(pet("TENANT-1", null))
+                .exchange()
+                .expectStatus().isCreated();
+
+        client.post().uri("/api/v1/pets")
+                .header("X-Tenant-Id", "clinic-b")
+                .bodyValue(pet("TENANT-1", null))
+                .exchange()
+                .expectStatus().isCreated();
+
+        client.get().uri("/api/v1/pets")
+                .header("X-Tenant-Id", "clinic-b")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalElements").isEqualTo(1);
+
+        client.get().uri("/api/v1/pets")
+                .header("X-Tenant-Id", "Not A Tenant")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("tenant.invalid");
+    }
+
+    private static CreatePetRequestDto pet(String registration, Long caregiverId) {
+        return CreatePetRequestDto.builder()
+                .name("Max")
+                .registrationNumber(registration)
+                .type(PetType.DOG)
+                .breed("Labrador")
+                .birthDate(LocalDate.now().minusYears(2))
+                .caregiverId(caregiverId)
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package dev.dmsviana.compawny.loadtest;
+
+import org.flywaydb.core.Flyway;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+final class BulkLoader {
+
+    private static final int BATCH_SIZE = 5_000;
+
+    private static final String INSERT_CAREGIVER = """
+            INSERT INTO caregivers (name, cpf, email, phone, hourly_rate, available, deleted, assigned_pets, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, false, ?, ?, ?)""";
+    private static final String INSERT_PET = """
+            INSERT INTO pets (name, registration_number, type, breed, birth_date, caregiver_id, deleted, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, false, ?, ?)""";
+
+    private final LoadTestSettings settings;
+    private final DataGenerator generator;
+
+    BulkLoader(LoadTestSettings settings, DataGenerator generator) {
+        this.settings = settings;
+        this.generator = generator;
+    }
+
+    void load() throws SQLException {
+        Flyway flyway = Flyway.configure()
+                .dataSource(settings.jdbcUrl(), settings.username(), settings.password())
+                .locations(settings.migrations())
+                .cleanDisabled(!settings.reload())
+                .load();
+        if (settings.reload()) {
+            flyway.clean();
+        }
+        flyway.migrate();
+
+        try (Connection connection = DriverManager.getConnection(settings.jdbcUrl(), settings.username(), settings.password())) {
+            if (count(connection, "caregivers") > 0) {
+                System.out.printf("Database already holds data, skipping load (use -Preload=true to regenerate)%n");
+                return;
+            }
+            connection.setAutoCommit(false);
+            long started = System.nanoTime();
+            loadCaregivers(connection);
+            loadPets(connection);
+            System.out.printf("Loaded %,d caregivers and %,d pets in %,d ms%n",
+                    settings.caregivers(), settings.pets(), (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+
+    private void loadCaregivers(Connection connection) throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_CAREGIVER)) {
+            for (long i = 0; i < settings.caregivers(); i++) {
+                DataGenerator.CaregiverRow caregiver = generator.caregiver(i);
+                insert.setString(1, caregiver.name());
+                insert.setString(2, caregiver.cpf());
+                insert.setString(3, caregiver.email());
+                insert.setString(4, caregiver.phone());
+                insert.setBigDecimal(5, caregiver.hourlyRate());
+                insert.setBoolean(6, caregiver.available());
+                insert.setInt(7, assignedPets(i));
+                insert.setTimestamp(8, now);
+                insert.setTimestamp(9, now);
+                insert.addBatch();
+                flushIfFull(connection, insert, i);
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private void loadPets(Connection connection) throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_PET)) {
+            for (long i = 0; i < settings.pets(); i++) {
+                DataGenerator.PetRow pet = generator.pet(i);
+                insert.setString(1, pet.name());
+                insert.setString(2, pet.registrationNumber());
+                insert.setString(3, pet.type().name());
+                insert.setString(4, pet.breed());
+                insert.setDate(5, Date.valueOf(pet.birthDate()));
+                insert.setObject(6, caregiverOf(i));
+                insert.setTimestamp(7, now);
+                insert.setTimestamp(8, now);
+                insert.addBatch();
+                flushIfFull(connection, insert, i);
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+    }
+
+    // Pets are dealt round-robin to caregivers until each one is full; the rest stay unassigned.
+    private Long caregiverOf(long petIndex) {
+        long capacity = settings.caregivers() * settings.maxPetsPerCaregiver();
+        return petIndex < capacity ? (petIndex % settings.caregivers()) + 1 : null;
+    }
+
+    private int assignedPets(long caregiverIndex) {
+        long assignable = Math.min(settings.pets(), settings.caregivers() * settings.maxPetsPerCaregiver());
+        long full = assignable / settings.caregivers();
+        return (int) (full + (caregiverIndex < assignable % settings.caregivers() ? 1 : 0));
+    }
+
+    private static void flushIfFull(Connection connection, PreparedStatement insert, long index) throws SQLException {
+        if ((index + 1) % BATCH_SIZE == 0) {
+            insert.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private static long count(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+}
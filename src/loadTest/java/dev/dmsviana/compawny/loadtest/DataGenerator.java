@@ -0,0 +1,111 @@
+package dev.dmsviana.compawny.loadtest;
+
+import dev.dmsviana.compawny.model.entity.types.PetType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+final class DataGenerator {
+
+    private static final String[] FIRST_NAMES = {
+            "Ana", "Bruno", "Carla", "Diego", "Elisa", "Fabio", "Gabriela", "Heitor", "Isabela", "João",
+            "Karina", "Lucas", "Marina", "Nicolas", "Olivia", "Pedro", "Rafaela", "Samuel", "Tatiana", "Vitor"
+    };
+    private static final String[] LAST_NAMES = {
+            "Silva", "Souza", "Oliveira", "Santos", "Lima", "Pereira", "Costa", "Almeida", "Ribeiro", "Gomes"
+    };
+    private static final String[] PET_NAMES = {
+            "Max", "Luna", "Thor", "Mel", "Bob", "Nina", "Toby", "Lola", "Fred", "Pipoca", "Bidu", "Amora"
+    };
+    private static final Map<PetType, String[]> BREEDS = Map.of(
+            PetType.DOG, new String[]{"Labrador", "Poodle", "Bulldog", "Vira-lata", "Golden Retriever", "Shih Tzu"},
+            PetType.CAT, new String[]{"Siamês", "Persa", "Maine Coon", "Vira-lata", "Sphynx"},
+            PetType.BIRD, new String[]{"Calopsita", "Canário", "Periquito"},
+            PetType.RABBIT, new String[]{"Holland Lop", "Mini Rex"},
+            PetType.OTHER, new String[]{"Jabuti", "Hamster", "Sem raça definida"}
+    );
+
+    private final long seed;
+    private final LocalDate today;
+
+    DataGenerator(long seed, LocalDate today) {
+        this.seed = seed;
+        this.today = today;
+    }
+
+    CaregiverRow caregiver(long index) {
+        SplittableRandom random = random(index, 0x5EED_CA7EL);
+        String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        return new CaregiverRow(
+                name,
+                cpf(index),
+                "caregiver" + index + "@load.compawny.dev",
+                phone(index),
+                BigDecimal.valueOf(2000 + random.nextInt(18000), 2),
+                random.nextInt(10) != 0
+        );
+    }
+
+    PetRow pet(long index) {
+        SplittableRandom random = random(index, 0x5EED_BE7L);
+        PetType type = PetType.values()[random.nextInt(PetType.values().length)];
+        String[] breeds = BREEDS.getOrDefault(type, new String[]{"Sem raça definida"});
+        return new PetRow(
+                PET_NAMES[random.nextInt(PET_NAMES.length)],
+                String.format("LT%010d", index),
+                type,
+                breeds[random.nextInt(breeds.length)],
+                today.minusDays(30 + random.nextInt(15 * 365))
+        );
+    }
+
+    // Nine base digits taken from the index, plus the two check digits of the CPF algorithm.
+    // Repeated-digit bases (111111111, ...) are rejected by @CPF, so they move to the unused 0xxxxxxxx range.
+    static String cpf(long index) {
+        long base = 100_000_000L + index;
+        if (base > 999_999_999L) {
+            throw new IllegalArgumentException("CPF space exhausted at index " + index);
+        }
+        if (base % 111_111_111L == 0) {
+            base = base / 111_111_111L;
+        }
+        int[] digits = new int[11];
+        for (int i = 8; i >= 0; i--) {
+            digits[i] = (int) (base % 10);
+            base /= 10;
+        }
+        digits[9] = checkDigit(digits, 9);
+        digits[10] = checkDigit(digits, 10);
+
+        StringBuilder cpf = new StringBuilder(11);
+        for (int digit : digits) {
+            cpf.append(digit);
+        }
+        return cpf.toString();
+    }
+
+    static String phone(long index) {
+        return String.format("(%02d) 9%04d-%04d", 11 + index % 89, (index / 10_000) % 10_000, index % 10_000);
+    }
+
+    private static int checkDigit(int[] digits, int length) {
+        int sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += digits[i] * (length + 1 - i);
+        }
+        int remainder = (sum * 10) % 11;
+        return remainder == 10 ? 0 : remainder;
+    }
+
+    private SplittableRandom random(long index, long salt) {
+        return new SplittableRandom(seed ^ salt ^ (index * 0x9E3779B97F4A7C15L));
+    }
+
+    record CaregiverRow(String name, String cpf, String email, String phone, BigDecimal hourlyRate, boolean available) {
+    }
+
+    record PetRow(String name, String registrationNumber, PetType type, String breed, LocalDate birthDate) {
+    }
+}
@@ -0,0 +1,68 @@
+package dev.dmsviana.compawny.loadtest;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Log-linear buckets in microseconds: exact below 1 ms, then 64 sub-buckets per power of two (~1.5% error).
+final class LatencyHistogram {
+
+    private static final int LINEAR = 1024;
+    private static final int SUB_BUCKETS = 64;
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int EXPONENTS = 64 - Long.numberOfLeadingZeros(LINEAR) - 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(LINEAR + (64 - EXPONENTS) * SUB_BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    void record(long nanos) {
+        buckets.incrementAndGet(index(Math.max(0, nanos / 1_000)));
+        count.increment();
+    }
+
+    void recordError() {
+        errors.increment();
+    }
+
+    long count() {
+        return count.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    double percentileMillis(double quantile) {
+        long total = count.sum();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return upperBoundMicros(i) / 1_000.0;
+            }
+        }
+        return upperBoundMicros(buckets.length() - 1) / 1_000.0;
+    }
+
+    private static int index(long micros) {
+        if (micros < LINEAR) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int subBucket = (int) ((micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return LINEAR + (exponent - EXPONENTS) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundMicros(int index) {
+        if (index < LINEAR) {
+            return index;
+        }
+        int exponent = (index - LINEAR) / SUB_BUCKETS + EXPONENTS;
+        int subBucket = (index - LINEAR) % SUB_BUCKETS;
+        return (1L << exponent) + ((long) (subBucket + 1) << (exponent - SUB_BUCKET_BITS));
+    }
+}
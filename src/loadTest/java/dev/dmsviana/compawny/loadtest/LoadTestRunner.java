@@ -0,0 +1,99 @@
+package dev.dmsviana.compawny.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public final class LoadTestRunner {
+
+    private static final int PORT = 18090;
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        // Anchored date and seed: the same settings always produce byte-identical datasets.
+        DataGenerator generator = new DataGenerator(settings.seed(), LocalDate.of(2025, 1, 1));
+
+        new BulkLoader(settings, generator).load();
+
+        if (settings.baseUrl() != null) {
+            new WorkloadDriver(settings, generator).run();
+            return;
+        }
+
+        Process application = start(settings);
+        try {
+            LoadTestSettings local = withBaseUrl(settings, "http://localhost:" + PORT);
+            awaitReady(application, local.baseUrl());
+            new WorkloadDriver(local, generator).run();
+        } finally {
+            application.destroy();
+            application.waitFor();
+        }
+    }
+
+    // Same environment-driven prod profile the startup benchmark uses, pointed at the preloaded file database.
+    private static Process start(LoadTestSettings settings) throws Exception {
+        if (settings.applicationJar() == null) {
+            throw new IllegalStateException("Either loadtest.applicationJar or loadtest.baseUrl must be set");
+        }
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        ProcessBuilder builder = new ProcessBuilder(List.of(
+                java, "-jar", settings.applicationJar(),
+                "--server.port=" + PORT,
+                "--spring.profiles.active=prod"
+        ));
+        builder.environment().putAll(Map.of(
+                "COMPAWNY_DB_URL", settings.jdbcUrl(),
+                "COMPAWNY_DB_USERNAME", settings.username(),
+                "COMPAWNY_DB_PASSWORD", settings.password(),
+                "COMPAWNY_RATELIMIT_ENABLED", "false",
+                "COMPAWNY_CAREGIVER_MAX_PETS", String.valueOf(settings.maxPetsPerCaregiver())
+        ));
+        File log = Files.createDirectories(Path.of("build", "loadtest")).resolve("application.log").toFile();
+        builder.redirectErrorStream(true);
+        builder.redirectOutput(log);
+        return builder.start();
+    }
+
+    private static void awaitReady(Process application, String baseUrl) throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest probe = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/pets?size=1")).GET().build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!application.isAlive()) {
+                throw new IllegalStateException("Application exited during startup, see build/loadtest/application.log");
+            }
+            try {
+                if (client.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException ignored) {
+                // not listening yet
+            }
+            Thread.sleep(200);
+        }
+        throw new IllegalStateException("Application did not become ready within " + STARTUP_TIMEOUT);
+    }
+
+    private static LoadTestSettings withBaseUrl(LoadTestSettings settings, String baseUrl) {
+        return new LoadTestSettings(
+                settings.caregivers(), settings.pets(), settings.maxPetsPerCaregiver(), settings.seed(),
+                settings.reload(), settings.jdbcUrl(), settings.username(), settings.password(),
+                settings.migrations(), settings.applicationJar(), baseUrl, settings.concurrency(),
+                settings.warmup(), settings.duration(), settings.mix()
+        );
+    }
+}
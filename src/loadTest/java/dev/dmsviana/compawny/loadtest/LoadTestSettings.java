@@ -0,0 +1,60 @@
+package dev.dmsviana.compawny.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+record LoadTestSettings(
+        long caregivers,
+        long pets,
+        int maxPetsPerCaregiver,
+        long seed,
+        boolean reload,
+        String jdbcUrl,
+        String username,
+        String password,
+        String migrations,
+        String applicationJar,
+        String baseUrl,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix
+) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Long.getLong("loadtest.caregivers", 100_000),
+                Long.getLong("loadtest.pets", 1_000_000),
+                Integer.getInteger("loadtest.maxPetsPerCaregiver", 50),
+                Long.getLong("loadtest.seed", 42),
+                Boolean.getBoolean("loadtest.reload"),
+                System.getProperty("loadtest.jdbcUrl", "jdbc:h2:file:./build/loadtest/compawny"),
+                System.getProperty("loadtest.username", "sa"),
+                System.getProperty("loadtest.password", ""),
+                System.getProperty("loadtest.migrations", "filesystem:src/main/resources/db/migration"),
+                System.getProperty("loadtest.applicationJar"),
+                System.getProperty("loadtest.baseUrl"),
+                Integer.getInteger("loadtest.concurrency", 64),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+                mix(System.getProperty("loadtest.mix", ""))
+        );
+    }
+
+    // Format: "LIST_PETS=40,GET_PET=20,..." - omitted operations keep their default weight.
+    private static Map<Operation, Integer> mix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            mix.put(operation, operation.defaultWeight());
+        }
+        for (String entry : value.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split("=");
+            mix.put(Operation.valueOf(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,25 @@
+package dev.dmsviana.compawny.loadtest;
+
+enum Operation {
+    LIST_PETS(30),
+    GET_PET(20),
+    LIST_CAREGIVERS(10),
+    GET_CAREGIVER(10),
+    PET_STATISTICS(3),
+    CAREGIVER_RECOMMENDATIONS(5),
+    CREATE_PET(8),
+    UPDATE_PET(6),
+    DELETE_PET(2),
+    CREATE_CAREGIVER(3),
+    UPDATE_CAREGIVER(3);
+
+    private final int defaultWeight;
+
+    Operation(int defaultWeight) {
+        this.defaultWeight = defaultWeight;
+    }
+
+    int defaultWeight() {
+        return defaultWeight;
+    }
+}
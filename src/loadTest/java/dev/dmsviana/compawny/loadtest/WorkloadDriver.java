@@ -0,0 +1,179 @@
+package dev.dmsviana.compawny.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+final class WorkloadDriver {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final LoadTestSettings settings;
+    private final DataGenerator generator;
+    private final HttpClient client;
+    private final Operation[] wheel;
+    private final AtomicLong newCaregivers;
+    private final AtomicLong newPets;
+    private final Map<Operation, LatencyHistogram> histograms = new EnumMap<>(Operation.class);
+
+    WorkloadDriver(LoadTestSettings settings, DataGenerator generator) {
+        this.settings = settings;
+        this.generator = generator;
+        this.client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        this.wheel = wheel(settings.mix());
+        this.newCaregivers = new AtomicLong(settings.caregivers());
+        this.newPets = new AtomicLong(settings.pets());
+    }
+
+    void run() throws InterruptedException {
+        System.out.printf("Warming up for %s with %d clients%n", settings.warmup(), settings.concurrency());
+        drive(settings.warmup());
+
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new LatencyHistogram());
+        }
+        System.out.printf("Measuring for %s with %d clients%n", settings.duration(), settings.concurrency());
+        drive(settings.duration());
+        report();
+    }
+
+    private void drive(Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < settings.concurrency(); i++) {
+                SplittableRandom random = new SplittableRandom(settings.seed() + i);
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        execute(wheel[random.nextInt(wheel.length)], random);
+                    }
+                    return null;
+                });
+            }
+        }
+    }
+
+    private void execute(Operation operation, SplittableRandom random) {
+        HttpRequest request = request(operation, random);
+        LatencyHistogram histogram = histograms.get(operation);
+        long started = System.nanoTime();
+        try {
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            long elapsed = System.nanoTime() - started;
+            if (histogram == null) {
+                return;
+            }
+            // 404/409 are expected under a random mix (e.g. a pet deleted by another client), not server faults.
+            if (status >= 500 || status == 429) {
+                histogram.recordError();
+            } else {
+                histogram.record(elapsed);
+            }
+        } catch (Exception e) {
+            if (histogram != null) {
+                histogram.recordError();
+            }
+        }
+    }
+
+    private HttpRequest request(Operation operation, SplittableRandom random) {
+        long pet = 1 + random.nextLong(settings.pets());
+        long caregiver = 1 + random.nextLong(settings.caregivers());
+        return switch (operation) {
+            case LIST_PETS -> get("/api/v1/pets?size=20&page=" + random.nextInt(50));
+            case GET_PET -> get("/api/v1/pets/" + pet);
+            case LIST_CAREGIVERS -> get("/api/v1/caregivers?size=20&page=" + random.nextInt(50));
+            case GET_CAREGIVER -> get("/api/v1/caregivers/" + caregiver);
+            case PET_STATISTICS -> get("/api/v1/pets/statistics");
+            case CAREGIVER_RECOMMENDATIONS -> get("/api/v1/pets/" + pet + "/caregiver-recommendations?limit=5");
+            case CREATE_PET -> send("POST", "/api/v1/pets", petBody(generator.pet(newPets.getAndIncrement()), caregiver));
+            case UPDATE_PET -> send("PUT", "/api/v1/pets/" + pet, updatePetBody(generator.pet(pet - 1), caregiver));
+            case DELETE_PET -> send("DELETE", "/api/v1/pets/" + pet, null);
+            case CREATE_CAREGIVER -> send("POST", "/api/v1/caregivers", caregiverBody(newCaregivers.getAndIncrement()));
+            case UPDATE_CAREGIVER -> send("PUT", "/api/v1/caregivers/" + caregiver,
+                    Map.of("phone", DataGenerator.phone(random.nextLong(1_000_000)), "hourlyRate", 20 + random.nextInt(180)));
+        };
+    }
+
+    private Map<String, Object> petBody(DataGenerator.PetRow pet, long caregiverId) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("name", pet.name());
+        body.put("registrationNumber", pet.registrationNumber());
+        body.put("type", pet.type().name());
+        body.put("breed", pet.breed());
+        body.put("birthDate", pet.birthDate().toString());
+        body.put("caregiverId", caregiverId);
+        return body;
+    }
+
+    private Map<String, Object> updatePetBody(DataGenerator.PetRow pet, long caregiverId) {
+        return Map.of(
+                "name", pet.name(),
+                "breed", pet.breed(),
+                "type", pet.type().name(),
+                "caregiverId", caregiverId
+        );
+    }
+
+    private Map<String, Object> caregiverBody(long index) {
+        DataGenerator.CaregiverRow caregiver = generator.caregiver(index);
+        return Map.of(
+                "name", caregiver.name(),
+                "cpf", caregiver.cpf(),
+                "email", caregiver.email(),
+                "phone", caregiver.phone(),
+                "hourlyRate", caregiver.hourlyRate()
+        );
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(settings.baseUrl() + path)).GET().build();
+    }
+
+    private HttpRequest send(String method, String path, Object body) {
+        try {
+            HttpRequest.BodyPublisher publisher = body == null
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(body));
+            return HttpRequest.newBuilder(URI.create(settings.baseUrl() + path))
+                    .header("Content-Type", "application/json")
+                    .method(method, publisher)
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void report() {
+        double seconds = settings.duration().toMillis() / 1_000.0;
+        long total = 0;
+        System.out.printf("%n%-26s %10s %10s %9s %9s %9s %9s %8s%n",
+                "operation", "requests", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "errors");
+        for (Map.Entry<Operation, LatencyHistogram> entry : histograms.entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            total += histogram.count();
+            System.out.printf("%-26s %10d %10.1f %9.2f %9.2f %9.2f %9.2f %8d%n",
+                    entry.getKey(), histogram.count(), histogram.count() / seconds,
+                    histogram.percentileMillis(0.50), histogram.percentileMillis(0.95),
+                    histogram.percentileMillis(0.99), histogram.percentileMillis(1.0), histogram.errors());
+        }
+        System.out.printf("%nTotal throughput: %.1f req/s over %s%n", total / seconds, settings.duration());
+    }
+
+    private static Operation[] wheel(Map<Operation, Integer> mix) {
+        return mix.entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Operation[]::new);
+    }
+}
@@ -2,10 +2,14 @@ package dev.dmsviana.compawny;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@ConfigurationPropertiesScan
+@EnableScheduling
 public class CompawnyApplication {
 
 	public static void main(String[] args) {
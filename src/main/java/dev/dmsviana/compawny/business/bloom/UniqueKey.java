@@ -0,0 +1,9 @@
+package dev.dmsviana.compawny.business.bloom;
+
+public enum UniqueKey {
+
+    PET_REGISTRATION,
+    CAREGIVER_CPF,
+    CAREGIVER_EMAIL
+
+}
@@ -0,0 +1,127 @@
+package dev.dmsviana.compawny.business.bloom;
+
+import dev.dmsviana.compawny.business.config.properties.UniqueKeyFilterProperties;
+import dev.dmsviana.compawny.business.config.properties.UniquenessProperties;
+import dev.dmsviana.compawny.business.context.TenantContext;
+import dev.dmsviana.compawny.model.repository.CaregiverRepository;
+import dev.dmsviana.compawny.model.repository.PetRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class UniqueKeyFilter {
+
+    private final PetRepository petRepository;
+    private final CaregiverRepository caregiverRepository;
+    private final UniqueKeyFilterProperties properties;
+    private final UniquenessProperties uniquenessProperties;
+    private final PlatformTransactionManager transactionManager;
+
+    private volatile Map<UniqueKey, BloomFilter> active;
+
+    // Keys recorded while a build is pending: a create that flushed before the build started but commits
+    // after its snapshot would otherwise be missing from the new filters.
+    private volatile List<Recorded> pending;
+
+    public UniqueKeyFilter(PetRepository petRepository,
+                           CaregiverRepository caregiverRepository,
+                           UniqueKeyFilterProperties properties,
+                           UniquenessProperties uniquenessProperties,
+                           PlatformTransactionManager transactionManager) {
+        this.petRepository = petRepository;
+        this.caregiverRepository = caregiverRepository;
+        this.properties = properties;
+        this.uniquenessProperties = uniquenessProperties;
+        this.transactionManager = transactionManager;
+        this.pending = isConsulted() ? new ArrayList<>() : null;
+    }
+
+    public boolean mightExist(UniqueKey key, String value) {
+        Map<UniqueKey, BloomFilter> filters = active;
+        return filters == null || value == null || filters.get(key).mightContain(value);
+    }
+
+    public void record(UniqueKey key, String value) {
+        if (value == null) {
+            return;
+        }
+        Map<UniqueKey, BloomFilter> filters = active;
+        if (filters != null) {
+            filters.get(key).put(value);
+        }
+        if (pending != null) {
+            synchronized (this) {
+                if (pending != null) {
+                    pending.add(new Recorded(key, value));
+                } else if (filters == null) {
+                    active.get(key).put(value);
+                }
+            }
+        }
+    }
+
+    // One filter for every clinic: a hit is always confirmed by the tenant-scoped exists query,
+    // so sharing it only costs the odd extra false positive. Insert-first creates never consult the
+    // filters, so they are only seeded when check-first uniqueness is configured.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!isConsulted()) {
+            return;
+        }
+        synchronized (this) {
+            if (pending == null) {
+                pending = new ArrayList<>();
+            }
+        }
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        TenantContext.runAsRoot(() -> transaction.executeWithoutResult(status -> seed()));
+    }
+
+    private void seed() {
+        long expected = Math.max(
+                properties.getExpectedInsertions(),
+                2 * Math.max(petRepository.count(), caregiverRepository.count())
+        );
+
+        Map<UniqueKey, BloomFilter> filters = new EnumMap<>(UniqueKey.class);
+        for (UniqueKey key : UniqueKey.values()) {
+            filters.put(key, new BloomFilter(expected, properties.getFalsePositiveRate()));
+        }
+
+        load(filters.get(UniqueKey.PET_REGISTRATION), petRepository.streamActiveRegistrationNumbers());
+        load(filters.get(UniqueKey.CAREGIVER_CPF), caregiverRepository.streamActiveCpfs());
+        load(filters.get(UniqueKey.CAREGIVER_EMAIL), caregiverRepository.streamActiveEmails());
+
+        synchronized (this) {
+            pending.forEach(recorded -> filters.get(recorded.key()).put(recorded.value()));
+            active = filters;
+            pending = null;
+        }
+        log.info("Unique key filters rebuilt for {} expected keys", expected);
+    }
+
+    private boolean isConsulted() {
+        return properties.isEnabled() && !uniquenessProperties.isInsertFirst();
+    }
+
+    private void load(BloomFilter filter, Stream<String> keys) {
+        try (keys) {
+            keys.forEach(filter::put);
+        }
+    }
+
+    private record Recorded(UniqueKey key, String value) {
+    }
+}
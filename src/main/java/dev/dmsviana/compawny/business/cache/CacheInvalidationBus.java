@@ -0,0 +1,43 @@
+package dev.dmsviana.compawny.business.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+
+import java.util.UUID;
+
+@Slf4j
+public class CacheInvalidationBus {
+
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+    private final CacheInvalidationTransport transport;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CacheInvalidationBus(CacheInvalidationTransport transport, EntityManagerFactory entityManagerFactory) {
+        this.transport = transport;
+        this.entityManagerFactory = entityManagerFactory;
+        transport.subscribe(this::apply);
+    }
+
+    public void publish(String entityName, Long id) {
+        try {
+            transport.publish(new EntityChange(entityName, id, nodeId));
+        } catch (RuntimeException e) {
+            // Other nodes fall back to the region TTL; failing here would not undo the committed change.
+            log.warn("Failed to publish change of {}#{}", entityName, id, e);
+        }
+    }
+
+    void apply(EntityChange change) {
+        if (nodeId.equals(change.origin())) {
+            return;
+        }
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        cache.evictEntityData(change.entityName(), change.id());
+        // Cached query results may still list (or omit) the changed row, e.g. a soft-deleted caregiver.
+        cache.evictQueryRegions();
+        log.debug("Evicted {}#{} changed by node {}", change.entityName(), change.id(), change.origin());
+    }
+}
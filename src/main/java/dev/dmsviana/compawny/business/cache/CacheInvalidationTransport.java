@@ -0,0 +1,10 @@
+package dev.dmsviana.compawny.business.cache;
+
+import java.util.function.Consumer;
+
+public interface CacheInvalidationTransport {
+
+    void publish(EntityChange change);
+
+    void subscribe(Consumer<EntityChange> subscriber);
+}
@@ -0,0 +1,4 @@
+package dev.dmsviana.compawny.business.cache;
+
+public record EntityChange(String entityName, Long id, String origin) {
+}
@@ -0,0 +1,50 @@
+package dev.dmsviana.compawny.business.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+
+// Only entities held in the second-level cache are broadcast; everything else is always read from the database.
+@RequiredArgsConstructor
+public class EntityChangePublisher implements
+        PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final CacheInvalidationBus bus;
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        bus.publish(event.getPersister().getEntityName(), (Long) event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        bus.publish(event.getPersister().getEntityName(), (Long) event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        bus.publish(event.getPersister().getEntityName(), (Long) event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+}
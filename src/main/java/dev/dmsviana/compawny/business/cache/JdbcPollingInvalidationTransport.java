@@ -0,0 +1,129 @@
+package dev.dmsviana.compawny.business.cache;
+
+import dev.dmsviana.compawny.business.config.properties.CacheInvalidationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+@Slf4j
+public class JdbcPollingInvalidationTransport implements CacheInvalidationTransport {
+
+    private static final String INSERT_CHANGE =
+            "INSERT INTO entity_changes (entity_name, entity_id, origin, changed_at) VALUES (?, ?, ?, CURRENT_TIMESTAMP)";
+    private static final String SELECT_CHANGES =
+            "SELECT id, entity_name, entity_id, origin FROM entity_changes WHERE id > ? ORDER BY id";
+    private static final String SELECT_LAST_ID = "SELECT COALESCE(MAX(id), 0) FROM entity_changes";
+    private static final String DELETE_EXPIRED = "DELETE FROM entity_changes WHERE changed_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate publishTransaction;
+    private final CacheInvalidationProperties properties;
+    private final BlockingQueue<EntityChange> outbound;
+    private final List<Consumer<EntityChange>> subscribers = new CopyOnWriteArrayList<>();
+    private final Map<Long, Boolean> delivered;
+
+    private long watermark = -1;
+
+    public JdbcPollingInvalidationTransport(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            CacheInvalidationProperties properties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.publishTransaction = new TransactionTemplate(transactionManager);
+        this.outbound = new ArrayBlockingQueue<>(properties.getPublishQueueSize());
+        this.delivered = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                return size() > 2 * properties.getLookback();
+            }
+        };
+    }
+
+    // Called from post-commit listeners while the committing session still holds its pooled connection, so the
+    // row is only queued here; borrowing a second connection would stall every commit once the pool is saturated.
+    @Override
+    public void publish(EntityChange change) {
+        if (!outbound.offer(change)) {
+            throw new IllegalStateException("Entity change queue is full");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${compawny.cache.invalidation.publish-interval:PT0.05S}")
+    public void flush() {
+        List<EntityChange> batch = new ArrayList<>();
+        outbound.drainTo(batch);
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            publishTransaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_CHANGE, batch,
+                    batch.size(), (ps, change) -> {
+                        ps.setString(1, change.entityName());
+                        ps.setLong(2, change.id());
+                        ps.setString(3, change.origin());
+                    }));
+        } catch (RuntimeException e) {
+            int requeued = 0;
+            for (EntityChange change : batch) {
+                if (outbound.offer(change)) {
+                    requeued++;
+                }
+            }
+            log.warn("Failed to publish {} entity changes, {} queued for retry", batch.size(), requeued, e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<EntityChange> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    // Identity values are handed out before commit, so a row with a lower id can become visible after a higher one.
+    // Re-reading the last few ids catches those late commits; evictions are idempotent and duplicates are skipped.
+    @Scheduled(fixedDelayString = "${compawny.cache.invalidation.poll-interval:PT1S}")
+    public synchronized void poll() {
+        if (watermark < 0) {
+            watermark = jdbcTemplate.queryForObject(SELECT_LAST_ID, Long.class);
+            return;
+        }
+        jdbcTemplate.query(SELECT_CHANGES, rs -> {
+            long id = rs.getLong("id");
+            watermark = Math.max(watermark, id);
+            if (delivered.put(id, Boolean.TRUE) == null) {
+                dispatch(new EntityChange(rs.getString("entity_name"), rs.getLong("entity_id"), rs.getString("origin")));
+            }
+        }, Math.max(0, watermark - properties.getLookback()));
+    }
+
+    @Scheduled(fixedDelayString = "${compawny.cache.invalidation.cleanup-interval:PT5M}")
+    public void deleteExpired() {
+        int deleted = jdbcTemplate.update(DELETE_EXPIRED,
+                Timestamp.valueOf(LocalDateTime.now().minus(properties.getRetention())));
+        log.debug("Removed {} expired entity changes", deleted);
+    }
+
+    private void dispatch(EntityChange change) {
+        for (Consumer<EntityChange> subscriber : subscribers) {
+            try {
+                subscriber.accept(change);
+            } catch (RuntimeException e) {
+                log.warn("Failed to apply entity change {}", change, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package dev.dmsviana.compawny.business.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Delivers to subscribers in the same JVM; used for single-node setups and for wiring several buses together in tests.
+public class LoopbackInvalidationTransport implements CacheInvalidationTransport {
+
+    private final List<Consumer<EntityChange>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(EntityChange change) {
+        subscribers.forEach(subscriber -> subscriber.accept(change));
+    }
+
+    @Override
+    public void subscribe(Consumer<EntityChange> subscriber) {
+        subscribers.add(subscriber);
+    }
+}
@@ -0,0 +1,64 @@
+package dev.dmsviana.compawny.business.config;
+
+import dev.dmsviana.compawny.business.cache.CacheInvalidationBus;
+import dev.dmsviana.compawny.business.cache.CacheInvalidationTransport;
+import dev.dmsviana.compawny.business.cache.EntityChangePublisher;
+import dev.dmsviana.compawny.business.cache.JdbcPollingInvalidationTransport;
+import dev.dmsviana.compawny.business.cache.LoopbackInvalidationTransport;
+import dev.dmsviana.compawny.business.config.properties.CacheInvalidationProperties;
+import dev.dmsviana.compawny.business.config.properties.SecondLevelCacheProperties;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+// Local second-level caches are only safe behind a load balancer when every node hears about every write.
+// Both switches are read when the beans are created instead of through bean conditions, which AOT would
+// evaluate once at build time; with the cache off nothing polls and no listeners are registered.
+@Configuration
+public class CacheInvalidationConfig {
+
+    @Bean
+    public CacheInvalidationTransport cacheInvalidationTransport(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            CacheInvalidationProperties properties,
+            SecondLevelCacheProperties cacheProperties
+    ) {
+        if (cacheProperties.isEnabled() && "jdbc".equals(properties.getTransport())) {
+            return new JdbcPollingInvalidationTransport(jdbcTemplate, transactionManager, properties);
+        }
+        return new LoopbackInvalidationTransport();
+    }
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(
+            CacheInvalidationTransport transport,
+            EntityManagerFactory entityManagerFactory
+    ) {
+        return new CacheInvalidationBus(transport, entityManagerFactory);
+    }
+
+    @Bean
+    public EntityChangePublisher entityChangePublisher(
+            CacheInvalidationBus bus,
+            EntityManagerFactory entityManagerFactory,
+            SecondLevelCacheProperties cacheProperties
+    ) {
+        EntityChangePublisher publisher = new EntityChangePublisher(bus);
+        if (!cacheProperties.isEnabled()) {
+            return publisher;
+        }
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, publisher);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, publisher);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, publisher);
+        return publisher;
+    }
+}
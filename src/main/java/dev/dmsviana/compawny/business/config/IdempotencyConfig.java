@@ -0,0 +1,22 @@
+package dev.dmsviana.compawny.business.config;
+
+import dev.dmsviana.compawny.business.config.properties.IdempotencyProperties;
+import dev.dmsviana.compawny.business.idempotency.IdempotencyStore;
+import dev.dmsviana.compawny.business.idempotency.InMemoryIdempotencyStore;
+import dev.dmsviana.compawny.business.idempotency.JdbcIdempotencyStore;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// The store is picked when the bean is created rather than through bean conditions, which AOT would freeze
+// at build time. The jdbc store shares its table, so a retry landing on another node still replays the first response.
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyStore idempotencyStore(JdbcTemplate jdbcTemplate, IdempotencyProperties properties) {
+        return "jdbc".equals(properties.getStore())
+                ? new JdbcIdempotencyStore(jdbcTemplate, properties)
+                : new InMemoryIdempotencyStore(properties);
+    }
+}
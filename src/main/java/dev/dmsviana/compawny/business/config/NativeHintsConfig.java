@@ -0,0 +1,71 @@
+package dev.dmsviana.compawny.business.config;
+
+import dev.dmsviana.compawny.model.entity.Caregiver;
+import dev.dmsviana.compawny.model.entity.Pet;
+import dev.dmsviana.compawny.model.repository.projection.CaregiverPetTypeCountProjection;
+import dev.dmsviana.compawny.model.repository.projection.PetStatisticsProjection;
+import dev.dmsviana.compawny.presentation.dto.caregiver.CaregiverRecommendationResponseDto;
+import dev.dmsviana.compawny.presentation.dto.caregiver.CaregiverResponseDto;
+import dev.dmsviana.compawny.presentation.dto.caregiver.CreateCaregiverRequestDto;
+import dev.dmsviana.compawny.presentation.dto.caregiver.ReassignPetsRequestDto;
+import dev.dmsviana.compawny.presentation.dto.caregiver.ReassignmentJobResponseDto;
+import dev.dmsviana.compawny.presentation.dto.caregiver.UpdateCaregiverRequestDto;
+import dev.dmsviana.compawny.presentation.dto.error.ErrorResponseDto;
+import dev.dmsviana.compawny.presentation.dto.page.PageResponseDto;
+import dev.dmsviana.compawny.presentation.dto.pet.CreatePetRequestDto;
+import dev.dmsviana.compawny.presentation.dto.pet.PetResponseDto;
+import dev.dmsviana.compawny.presentation.dto.pet.PetStatisticsResponseDto;
+import dev.dmsviana.compawny.presentation.dto.pet.UpdatePetRequestDto;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.data.projection.TargetAware;
+
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.CompawnyRuntimeHints.class)
+@RegisterReflectionForBinding({
+        PageResponseDto.class,
+        ErrorResponseDto.class,
+        CaregiverResponseDto.class,
+        CreateCaregiverRequestDto.class,
+        UpdateCaregiverRequestDto.class,
+        CaregiverRecommendationResponseDto.class,
+        ReassignPetsRequestDto.class,
+        ReassignmentJobResponseDto.class,
+        PetResponseDto.class,
+        CreatePetRequestDto.class,
+        UpdatePetRequestDto.class,
+        PetStatisticsResponseDto.class
+})
+public class NativeHintsConfig {
+
+    static class CompawnyRuntimeHints implements RuntimeHintsRegistrar {
+
+        private static final String[] MAPPERS = {
+                "dev.dmsviana.compawny.presentation.dto.pet.mapper.PetMapperImpl",
+                "dev.dmsviana.compawny.presentation.dto.caregiver.mapper.CaregiverMapperImpl"
+        };
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            hints.resources().registerPattern("ValidationMessages*.properties");
+            hints.resources().registerPattern("db/migration/*.sql");
+
+            for (String mapper : MAPPERS) {
+                hints.reflection().registerType(TypeReference.of(mapper),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            for (Class<?> entity : new Class<?>[]{Pet.class, Caregiver.class}) {
+                hints.reflection().registerType(entity, MemberCategory.values());
+            }
+            for (Class<?> projection : new Class<?>[]{PetStatisticsProjection.class, CaregiverPetTypeCountProjection.class}) {
+                hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(projection, TargetAware.class));
+            }
+        }
+    }
+}
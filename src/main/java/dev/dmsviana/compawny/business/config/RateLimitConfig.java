@@ -0,0 +1,39 @@
+package dev.dmsviana.compawny.business.config;
+
+import dev.dmsviana.compawny.business.config.properties.RateLimitProperties;
+import dev.dmsviana.compawny.business.ratelimit.RateLimitService;
+import dev.dmsviana.compawny.presentation.interceptor.RateLimitInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<RateLimitService> rateLimitService;
+    private final RateLimitProperties properties;
+
+    public RateLimitConfig(ObjectProvider<RateLimitService> rateLimitService, RateLimitProperties properties) {
+        this.rateLimitService = rateLimitService;
+        this.properties = properties;
+    }
+
+    @Bean
+    public RateLimitService rateLimitService(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        return new RateLimitService(properties, meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        registry.addInterceptor(new RateLimitInterceptor(rateLimitService.getObject()))
+                .addPathPatterns("/api/v1/pets/**", "/api/v1/caregivers/**");
+    }
+}
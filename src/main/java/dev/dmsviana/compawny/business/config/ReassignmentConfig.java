@@ -0,0 +1,22 @@
+package dev.dmsviana.compawny.business.config;
+
+import dev.dmsviana.compawny.business.config.properties.ReassignmentProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ReassignmentConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor reassignmentExecutor(ReassignmentProperties properties, TaskDecorator taskDecorator) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setThreadNamePrefix("reassignment-");
+        executor.setTaskDecorator(taskDecorator);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
@@ -0,0 +1,69 @@
+package dev.dmsviana.compawny.business.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import dev.dmsviana.compawny.business.config.properties.SecondLevelCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.util.OptionalLong;
+
+@Slf4j
+@Configuration
+public class SecondLevelCacheConfig {
+
+    // Hibernate owns (and closes) this manager, so it stays out of the Spring context and away from the cache abstraction.
+    // The flag is read when the customizer runs, not as a bean condition, so it can still be flipped in AOT builds.
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(SecondLevelCacheProperties properties) {
+        return hibernateProperties -> {
+            if (!properties.isEnabled()) {
+                return;
+            }
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager(properties));
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create");
+            // Ids are global identity values, so keys skip the tenant; evictions by id from the invalidation bus still match.
+            hibernateProperties.put(AvailableSettings.CACHE_KEYS_FACTORY, "simple");
+        };
+    }
+
+    private CacheManager cacheManager(SecondLevelCacheProperties properties) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+
+        properties.getRegions().forEach((name, region) -> {
+            CaffeineConfiguration<Object, Object> configuration = configuration();
+            configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(region.getTimeToLive().toNanos()));
+            create(cacheManager, name, configuration);
+            log.info("Second-level cache region {} bounded to {} entries for {}", name, region.getMaximumSize(), region.getTimeToLive());
+        });
+        // Update timestamps must outlive every cached query result, otherwise stale results look fresh.
+        create(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, configuration());
+        return cacheManager;
+    }
+
+    private static CaffeineConfiguration<Object, Object> configuration() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+
+    private static void create(CacheManager cacheManager, String name, CaffeineConfiguration<Object, Object> configuration) {
+        if (cacheManager.getCache(name) == null) {
+            cacheManager.createCache(name, configuration);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package dev.dmsviana.compawny.business.config;
+
+import dev.dmsviana.compawny.business.context.TenantTaskDecorator;
+import dev.dmsviana.compawny.business.logging.MdcTaskDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.CompositeTaskDecorator;
+
+import java.util.List;
+
+@Configuration
+public class TaskDecoratorConfig {
+
+    // Also picked up by Boot's auto-configured executors, so @Async work keeps the request id and the tenant.
+    @Bean
+    public TaskDecorator contextPropagatingTaskDecorator() {
+        return new CompositeTaskDecorator(List.of(new MdcTaskDecorator(), new TenantTaskDecorator()));
+    }
+}
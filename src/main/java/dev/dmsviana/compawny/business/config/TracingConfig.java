@@ -0,0 +1,18 @@
+package dev.dmsviana.compawny.business.config;
+
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TracingConfig {
+
+    // Local stand-in for an OTLP collector: finished spans are written to the application log.
+    // Always registered and switched off with a no-op exporter, so the flag still works in AOT and native runs.
+    @Bean
+    public SpanExporter loggingSpanExporter(@Value("${compawny.tracing.log-spans:false}") boolean logSpans) {
+        return logSpans ? LoggingSpanExporter.create() : SpanExporter.composite();
+    }
+}
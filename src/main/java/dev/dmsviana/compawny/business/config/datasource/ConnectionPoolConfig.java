@@ -0,0 +1,71 @@
+package dev.dmsviana.compawny.business.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.dmsviana.compawny.business.config.properties.ConnectionPoolProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+@Slf4j
+@Configuration
+@Profile("prod")
+public class ConnectionPoolConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionPoolTuner(Environment environment) {
+        ConnectionPoolProperties properties = Binder.get(environment)
+                .bind("compawny.datasource.pool", ConnectionPoolProperties.class)
+                .orElseGet(ConnectionPoolProperties::new);
+        return new ConnectionPoolTuner(properties);
+    }
+
+    @RequiredArgsConstructor
+    static class ConnectionPoolTuner implements BeanPostProcessor {
+
+        private final ConnectionPoolProperties properties;
+
+        // Before initialization: datasource-micrometer wraps DataSource beans in a proxy after it.
+        @Override
+        public Object postProcessBeforeInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource dataSource) {
+                tune(dataSource);
+            }
+            return bean;
+        }
+
+        private void tune(HikariDataSource dataSource) {
+            int poolSize = properties.getMaximumPoolSize() != null
+                    ? properties.getMaximumPoolSize()
+                    : Runtime.getRuntime().availableProcessors() * 2 + properties.getEffectiveSpindleCount();
+
+            dataSource.setMaximumPoolSize(poolSize);
+            dataSource.setMinimumIdle(poolSize);
+            configureStatementCache(dataSource);
+
+            log.info("Connection pool {} sized to {} connections", dataSource.getPoolName(), poolSize);
+        }
+
+        private void configureStatementCache(HikariDataSource dataSource) {
+            String url = dataSource.getJdbcUrl();
+            if (url == null) {
+                return;
+            }
+            if (url.startsWith("jdbc:postgresql:")) {
+                dataSource.addDataSourceProperty("prepareThreshold", 1);
+                dataSource.addDataSourceProperty("preparedStatementCacheQueries", properties.getStatementCacheSize());
+                dataSource.addDataSourceProperty("reWriteBatchedInserts", true);
+            } else if (url.startsWith("jdbc:mysql:") || url.startsWith("jdbc:mariadb:")) {
+                dataSource.addDataSourceProperty("cachePrepStmts", true);
+                dataSource.addDataSourceProperty("useServerPrepStmts", true);
+                dataSource.addDataSourceProperty("prepStmtCacheSize", properties.getStatementCacheSize());
+                dataSource.addDataSourceProperty("prepStmtCacheSqlLimit", properties.getStatementCacheSqlLimit());
+                dataSource.addDataSourceProperty("rewriteBatchedStatements", true);
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package dev.dmsviana.compawny.business.config.datasource;
+
+public enum DataSourceType {
+
+    PRIMARY,
+    REPLICA
+
+}
@@ -0,0 +1,47 @@
+package dev.dmsviana.compawny.business.config.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ReadYourWritesTracker {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void recordWrite(String clientId) {
+        if (clientId == null || windowNanos <= 0) {
+            return;
+        }
+        lastWrites.put(clientId, System.nanoTime());
+        if (lastWrites.size() > PURGE_THRESHOLD) {
+            purgeExpired();
+        }
+    }
+
+    public boolean hasRecentWrite(String clientId) {
+        if (clientId == null) {
+            return false;
+        }
+        Long lastWrite = lastWrites.get(clientId);
+        if (lastWrite == null) {
+            return false;
+        }
+        if (System.nanoTime() - lastWrite <= windowNanos) {
+            return true;
+        }
+        lastWrites.remove(clientId, lastWrite);
+        return false;
+    }
+
+    private void purgeExpired() {
+        long now = System.nanoTime();
+        lastWrites.values().removeIf(lastWrite -> now - lastWrite > windowNanos);
+    }
+}
@@ -0,0 +1,50 @@
+package dev.dmsviana.compawny.business.config.datasource;
+
+import dev.dmsviana.compawny.business.context.ClientContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@RequiredArgsConstructor
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadYourWritesTracker tracker;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String clientId = ClientContext.getClientId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (clientId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                recordWriteAfterCommit(clientId);
+            }
+            return DataSourceType.PRIMARY;
+        }
+
+        return tracker.hasRecentWrite(clientId) ? DataSourceType.PRIMARY : DataSourceType.REPLICA;
+    }
+
+    // Only a committed write leaves the replica behind; a rolled-back one must not pin the client to the primary.
+    private void recordWriteAfterCommit(String clientId) {
+        boolean registered = TransactionSynchronizationManager.getSynchronizations().stream()
+                .anyMatch(WriteRecorder.class::isInstance);
+        if (!registered) {
+            TransactionSynchronizationManager.registerSynchronization(new WriteRecorder(clientId));
+        }
+    }
+
+    private final class WriteRecorder implements TransactionSynchronization {
+
+        private final String clientId;
+
+        private WriteRecorder(String clientId) {
+            this.clientId = clientId;
+        }
+
+        @Override
+        public void afterCommit() {
+            tracker.recordWrite(clientId);
+        }
+    }
+}
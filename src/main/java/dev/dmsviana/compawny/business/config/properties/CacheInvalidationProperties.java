@@ -0,0 +1,21 @@
+package dev.dmsviana.compawny.business.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "compawny.cache.invalidation")
+public class CacheInvalidationProperties {
+
+    private String transport = "loopback";
+    private Duration pollInterval = Duration.ofSeconds(1);
+    private Duration publishInterval = Duration.ofMillis(50);
+    private int publishQueueSize = 10_000;
+    private Duration cleanupInterval = Duration.ofMinutes(5);
+    private Duration retention = Duration.ofMinutes(10);
+    private int lookback = 100;
+}
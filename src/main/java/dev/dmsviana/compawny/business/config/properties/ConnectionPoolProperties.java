@@ -0,0 +1,16 @@
+package dev.dmsviana.compawny.business.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "compawny.datasource.pool")
+public class ConnectionPoolProperties {
+
+    private Integer maximumPoolSize;
+    private int effectiveSpindleCount = 1;
+    private int statementCacheSize = 256;
+    private int statementCacheSqlLimit = 2048;
+}
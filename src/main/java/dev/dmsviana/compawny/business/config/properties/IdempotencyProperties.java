@@ -0,0 +1,25 @@
+package dev.dmsviana.compawny.business.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "compawny.idempotency")
+public class IdempotencyProperties {
+
+    private boolean enabled = true;
+    private String store = "memory";
+    private List<String> paths = List.of("/api/v1/pets", "/api/v1/caregivers");
+    private Duration ttl = Duration.ofHours(24);
+    private Duration lockTimeout = Duration.ofSeconds(30);
+    private Duration cleanupInterval = Duration.ofMinutes(10);
+    private long maxEntries = 10_000;
+    private DataSize maxResponseSize = DataSize.ofKilobytes(64);
+    private DataSize maxRequestSize = DataSize.ofKilobytes(256);
+}
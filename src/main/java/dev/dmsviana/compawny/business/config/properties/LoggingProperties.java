@@ -0,0 +1,14 @@
+package dev.dmsviana.compawny.business.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "compawny.logging")
+public class LoggingProperties {
+
+    private double readSampleRate = 0.01;
+    private int asyncQueueSize = 8192;
+}
@@ -0,0 +1,33 @@
+package dev.dmsviana.compawny.business.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "compawny.ratelimit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private long capacity = 100;
+    private double refillPerSecond = 50;
+    private int maxClients = 100_000;
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    private Set<String> apiKeys = new HashSet<>();
+    private Concurrency concurrency = new Concurrency();
+
+    @Getter
+    @Setter
+    public static class Concurrency {
+
+        private int initialLimit = 20;
+        private int minLimit = 5;
+        private int maxLimit = 200;
+        private double smoothing = 0.2;
+    }
+}
@@ -0,0 +1,18 @@
+package dev.dmsviana.compawny.business.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "compawny.reassignment")
+public class ReassignmentProperties {
+
+    private int chunkSize = 500;
+    private long asyncThreshold = 1000;
+    private int poolSize = 2;
+    private Duration jobRetention = Duration.ofHours(1);
+}
@@ -0,0 +1,16 @@
+package dev.dmsviana.compawny.business.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "compawny.recommendation")
+public class RecommendationProperties {
+
+    private double priceWeight = 0.4;
+    private double loadWeight = 0.3;
+    private double experienceWeight = 0.3;
+    private int maxResults = 50;
+}
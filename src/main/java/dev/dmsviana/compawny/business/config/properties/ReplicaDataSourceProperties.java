@@ -0,0 +1,20 @@
+package dev.dmsviana.compawny.business.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "compawny.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    private boolean enabled;
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName;
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+}
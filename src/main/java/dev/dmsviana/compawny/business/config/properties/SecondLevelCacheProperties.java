@@ -0,0 +1,37 @@
+package dev.dmsviana.compawny.business.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "compawny.cache.second-level")
+public class SecondLevelCacheProperties {
+
+    private boolean enabled = false;
+    private Map<String, Region> regions = new LinkedHashMap<>(Map.of(
+            "caregivers", new Region(10_000, Duration.ofMinutes(10)),
+            "caregiver-queries", new Region(1_000, Duration.ofMinutes(5))
+    ));
+
+    @Getter
+    @Setter
+    public static class Region {
+
+        private long maximumSize;
+        private Duration timeToLive;
+
+        public Region() {
+        }
+
+        public Region(long maximumSize, Duration timeToLive) {
+            this.maximumSize = maximumSize;
+            this.timeToLive = timeToLive;
+        }
+    }
+}
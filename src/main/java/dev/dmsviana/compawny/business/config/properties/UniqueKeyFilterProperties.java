@@ -0,0 +1,15 @@
+package dev.dmsviana.compawny.business.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "compawny.unique-key-filter")
+public class UniqueKeyFilterProperties {
+
+    private boolean enabled = true;
+    private long expectedInsertions = 1_000_000;
+    private double falsePositiveRate = 0.01;
+}
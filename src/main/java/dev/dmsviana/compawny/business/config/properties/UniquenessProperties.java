@@ -0,0 +1,13 @@
+package dev.dmsviana.compawny.business.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "compawny.uniqueness")
+public class UniquenessProperties {
+
+    private boolean insertFirst = true;
+}
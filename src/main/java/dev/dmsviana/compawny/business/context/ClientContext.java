@@ -0,0 +1,21 @@
+package dev.dmsviana.compawny.business.context;
+
+public final class ClientContext {
+
+    private static final ThreadLocal<String> CLIENT_ID = new ThreadLocal<>();
+
+    private ClientContext() {
+    }
+
+    public static String getClientId() {
+        return CLIENT_ID.get();
+    }
+
+    public static void setClientId(String clientId) {
+        CLIENT_ID.set(clientId);
+    }
+
+    public static void clear() {
+        CLIENT_ID.remove();
+    }
+}
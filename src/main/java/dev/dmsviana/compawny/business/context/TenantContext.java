@@ -0,0 +1,52 @@
+package dev.dmsviana.compawny.business.context;
+
+import java.util.regex.Pattern;
+
+public final class TenantContext {
+
+    public static final String DEFAULT_TENANT = "default";
+    // Background work spanning every clinic; never a valid X-Tenant-Id, so requests cannot claim it.
+    public static final String ROOT_TENANT = "*";
+
+    private static final Pattern VALID_TENANT_ID = Pattern.compile("[a-z0-9][a-z0-9-]{0,63}");
+    private static final ThreadLocal<String> TENANT_ID = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    public static String getTenantId() {
+        return TENANT_ID.get();
+    }
+
+    public static String currentTenant() {
+        String tenantId = TENANT_ID.get();
+        return tenantId != null ? tenantId : DEFAULT_TENANT;
+    }
+
+    public static boolean isValid(String tenantId) {
+        return tenantId != null && VALID_TENANT_ID.matcher(tenantId).matches();
+    }
+
+    public static void setTenantId(String tenantId) {
+        TENANT_ID.set(tenantId);
+    }
+
+    public static void clear() {
+        TENANT_ID.remove();
+    }
+
+    // Hibernate resolves the tenant when the session opens, so this must wrap the transaction, not run inside it.
+    public static void runAsRoot(Runnable action) {
+        String previous = TENANT_ID.get();
+        TENANT_ID.set(ROOT_TENANT);
+        try {
+            action.run();
+        } finally {
+            if (previous != null) {
+                TENANT_ID.set(previous);
+            } else {
+                TENANT_ID.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package dev.dmsviana.compawny.business.context;
+
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+
+// Instantiated by Hibernate from spring.jpa.properties.hibernate.tenant_identifier_resolver, which is set in both
+// the main and the test application.yml: the test one shadows the main file on the test classpath.
+public class TenantIdentifierResolver implements CurrentTenantIdentifierResolver<String> {
+
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        return TenantContext.currentTenant();
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return true;
+    }
+
+    @Override
+    public boolean isRoot(String tenantId) {
+        return TenantContext.ROOT_TENANT.equals(tenantId);
+    }
+}
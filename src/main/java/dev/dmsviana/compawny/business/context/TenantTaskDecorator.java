@@ -0,0 +1,24 @@
+package dev.dmsviana.compawny.business.context;
+
+import org.springframework.core.task.TaskDecorator;
+
+public class TenantTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        String tenantId = TenantContext.getTenantId();
+        return () -> {
+            String previous = TenantContext.getTenantId();
+            TenantContext.setTenantId(tenantId);
+            try {
+                runnable.run();
+            } finally {
+                if (previous != null) {
+                    TenantContext.setTenantId(previous);
+                } else {
+                    TenantContext.clear();
+                }
+            }
+        };
+    }
+}
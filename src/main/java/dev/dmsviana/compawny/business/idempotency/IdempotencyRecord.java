@@ -0,0 +1,21 @@
+package dev.dmsviana.compawny.business.idempotency;
+
+// A null response means the first request is still being processed.
+public record IdempotencyRecord(String fingerprint, String claimToken, StoredResponse response) {
+
+    public static IdempotencyRecord inFlight(String fingerprint, String claimToken) {
+        return new IdempotencyRecord(fingerprint, claimToken, null);
+    }
+
+    public IdempotencyRecord completed(StoredResponse response) {
+        return new IdempotencyRecord(fingerprint, claimToken, response);
+    }
+
+    public boolean isOwnedBy(String token) {
+        return !isCompleted() && token.equals(claimToken);
+    }
+
+    public boolean isCompleted() {
+        return response != null;
+    }
+}
@@ -0,0 +1,15 @@
+package dev.dmsviana.compawny.business.idempotency;
+
+import java.util.Optional;
+
+public interface IdempotencyStore {
+
+    // Atomically takes ownership of the key. Empty means the caller owns it and must complete or release it;
+    // otherwise the record left by whoever got there first is returned.
+    Optional<IdempotencyRecord> claim(String key, String fingerprint, String claimToken);
+
+    // Both are no-ops unless claimToken still owns the key, e.g. after a slow request lost it to a take-over.
+    void complete(String key, String claimToken, StoredResponse response);
+
+    void release(String key, String claimToken);
+}
@@ -0,0 +1,37 @@
+package dev.dmsviana.compawny.business.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.dmsviana.compawny.business.config.properties.IdempotencyProperties;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+
+// Bounded and TTL-evicting; keys are per node, so retries must reach the same instance to be deduplicated.
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final ConcurrentMap<String, IdempotencyRecord> records;
+
+    public InMemoryIdempotencyStore(IdempotencyProperties properties) {
+        Cache<String, IdempotencyRecord> cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+        this.records = cache.asMap();
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> claim(String key, String fingerprint, String claimToken) {
+        return Optional.ofNullable(records.putIfAbsent(key, IdempotencyRecord.inFlight(fingerprint, claimToken)));
+    }
+
+    @Override
+    public void complete(String key, String claimToken, StoredResponse response) {
+        records.computeIfPresent(key, (k, record) -> record.isOwnedBy(claimToken) ? record.completed(response) : record);
+    }
+
+    @Override
+    public void release(String key, String claimToken) {
+        records.computeIfPresent(key, (k, record) -> record.isOwnedBy(claimToken) ? null : record);
+    }
+}
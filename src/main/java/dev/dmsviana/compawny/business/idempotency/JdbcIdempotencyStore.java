@@ -0,0 +1,92 @@
+package dev.dmsviana.compawny.business.idempotency;
+
+import dev.dmsviana.compawny.business.config.properties.IdempotencyProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Slf4j
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private static final String INSERT_KEY =
+            "INSERT INTO idempotency_keys (idempotency_key, fingerprint, claim_token, locked_until, expires_at) "
+                    + "VALUES (?, ?, ?, ?, ?)";
+    // An expired key, or one whose owner died mid-request, can be taken over by the next retry.
+    private static final String TAKE_OVER_KEY =
+            "UPDATE idempotency_keys SET fingerprint = ?, claim_token = ?, response_status = NULL, content_type = NULL, "
+                    + "response_body = NULL, locked_until = ?, expires_at = ? "
+                    + "WHERE idempotency_key = ? AND (expires_at < ? OR (response_status IS NULL AND locked_until < ?))";
+    private static final String SELECT_KEY =
+            "SELECT fingerprint, claim_token, response_status, content_type, response_body FROM idempotency_keys "
+                    + "WHERE idempotency_key = ?";
+    private static final String COMPLETE_KEY =
+            "UPDATE idempotency_keys SET response_status = ?, content_type = ?, response_body = ?, expires_at = ? "
+                    + "WHERE idempotency_key = ? AND claim_token = ? AND response_status IS NULL";
+    private static final String DELETE_KEY =
+            "DELETE FROM idempotency_keys WHERE idempotency_key = ? AND claim_token = ? AND response_status IS NULL";
+    private static final String DELETE_EXPIRED = "DELETE FROM idempotency_keys WHERE expires_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdempotencyProperties properties;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, IdempotencyProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> claim(String key, String fingerprint, String claimToken) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp lockedUntil = Timestamp.valueOf(now.plus(properties.getLockTimeout()));
+        Timestamp expiresAt = Timestamp.valueOf(now.plus(properties.getTtl()));
+        try {
+            jdbcTemplate.update(INSERT_KEY, key, fingerprint, claimToken, lockedUntil, expiresAt);
+            return Optional.empty();
+        } catch (DuplicateKeyException e) {
+            Timestamp current = Timestamp.valueOf(now);
+            if (jdbcTemplate.update(TAKE_OVER_KEY, fingerprint, claimToken, lockedUntil, expiresAt, key, current, current) == 1) {
+                return Optional.empty();
+            }
+        }
+        // Released between our insert and this read: report it as in flight and let the client retry.
+        return Optional.of(find(key).orElseGet(() -> IdempotencyRecord.inFlight(fingerprint, null)));
+    }
+
+    @Override
+    public void complete(String key, String claimToken, StoredResponse response) {
+        int updated = jdbcTemplate.update(COMPLETE_KEY, response.status(), response.contentType(), response.body(),
+                Timestamp.valueOf(LocalDateTime.now().plus(properties.getTtl())), key, claimToken);
+        if (updated == 0) {
+            log.warn("Idempotency key was taken over before its response could be stored");
+        }
+    }
+
+    @Override
+    public void release(String key, String claimToken) {
+        jdbcTemplate.update(DELETE_KEY, key, claimToken);
+    }
+
+    @Scheduled(fixedDelayString = "${compawny.idempotency.cleanup-interval:PT10M}")
+    public void deleteExpired() {
+        int deleted = jdbcTemplate.update(DELETE_EXPIRED, Timestamp.valueOf(LocalDateTime.now()));
+        log.debug("Removed {} expired idempotency keys", deleted);
+    }
+
+    private Optional<IdempotencyRecord> find(String key) {
+        return jdbcTemplate.query(SELECT_KEY, rs -> {
+            if (!rs.next()) {
+                return Optional.empty();
+            }
+            int status = rs.getInt("response_status");
+            StoredResponse response = rs.wasNull()
+                    ? null
+                    : new StoredResponse(status, rs.getString("content_type"), rs.getBytes("response_body"));
+            return Optional.of(new IdempotencyRecord(rs.getString("fingerprint"), rs.getString("claim_token"), response));
+        }, key);
+    }
+}
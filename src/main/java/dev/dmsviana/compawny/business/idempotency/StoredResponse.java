@@ -0,0 +1,4 @@
+package dev.dmsviana.compawny.business.idempotency;
+
+public record StoredResponse(int status, String contentType, byte[] body) {
+}
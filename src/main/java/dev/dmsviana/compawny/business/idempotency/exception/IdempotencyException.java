@@ -0,0 +1,13 @@
+package dev.dmsviana.compawny.business.idempotency.exception;
+
+import dev.dmsviana.compawny.model.exception.CompawnyBusinessException;
+import org.springframework.http.HttpStatus;
+
+import java.util.Map;
+
+public class IdempotencyException extends CompawnyBusinessException {
+
+    public IdempotencyException(String message, HttpStatus status, String description) {
+        super(message, status, Map.of("description", description));
+    }
+}
@@ -0,0 +1,21 @@
+package dev.dmsviana.compawny.business.logging;
+
+import dev.dmsviana.compawny.business.config.properties.LoggingProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+public class ReadLogSampler {
+
+    private final double rate;
+
+    public ReadLogSampler(LoggingProperties properties) {
+        this.rate = properties.getReadSampleRate();
+    }
+
+    // Thread-local draw: no shared counter for every GET to contend on.
+    public boolean sample() {
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+}
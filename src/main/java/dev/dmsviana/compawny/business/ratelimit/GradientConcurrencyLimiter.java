@@ -0,0 +1,84 @@
+package dev.dmsviana.compawny.business.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class GradientConcurrencyLimiter {
+
+    private static final double SHORT_RTT_WEIGHT = 0.1;
+    private static final double LONG_RTT_WEIGHT = 1.0 / 600;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+
+    private volatile double limit;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double smoothing) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long rttNanos) {
+        int inFlightAtStart = inFlight.getAndDecrement();
+        if (rttNanos > 0 && updateLock.tryLock()) {
+            try {
+                update(rttNanos, inFlightAtStart);
+            } finally {
+                updateLock.unlock();
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void update(long rttNanos, int inFlightAtStart) {
+        if (longRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+            return;
+        }
+        shortRttNanos += (rttNanos - shortRttNanos) * SHORT_RTT_WEIGHT;
+        longRttNanos += (rttNanos - longRttNanos) * LONG_RTT_WEIGHT;
+
+        // A sustained drift means the baseline is stale; let it recover faster.
+        if (longRttNanos / shortRttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        double current = limit;
+        if (inFlightAtStart < current / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, longRttNanos / shortRttNanos));
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - smoothing) + target * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+}
@@ -0,0 +1,107 @@
+package dev.dmsviana.compawny.business.ratelimit;
+
+import dev.dmsviana.compawny.business.config.properties.RateLimitProperties;
+import dev.dmsviana.compawny.business.ratelimit.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class RateLimitService {
+
+    private final RateLimitProperties properties;
+    private final GradientConcurrencyLimiter concurrencyLimiter;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final TokenBucket overflowBucket;
+    private final Counter rateRejections;
+    private final Counter concurrencyRejections;
+
+    public RateLimitService(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        RateLimitProperties.Concurrency concurrency = properties.getConcurrency();
+        this.concurrencyLimiter = new GradientConcurrencyLimiter(
+                concurrency.getInitialLimit(),
+                concurrency.getMinLimit(),
+                concurrency.getMaxLimit(),
+                concurrency.getSmoothing()
+        );
+        this.overflowBucket = newBucket();
+
+        this.rateRejections = Counter.builder("compawny.ratelimit.rejected")
+                .tag("reason", "rate")
+                .register(meterRegistry);
+        this.concurrencyRejections = Counter.builder("compawny.ratelimit.rejected")
+                .tag("reason", "concurrency")
+                .register(meterRegistry);
+        Gauge.builder("compawny.ratelimit.clients", buckets, Map::size)
+                .register(meterRegistry);
+        Gauge.builder("compawny.concurrency.limit", concurrencyLimiter, GradientConcurrencyLimiter::getLimit)
+                .register(meterRegistry);
+        Gauge.builder("compawny.concurrency.inflight", concurrencyLimiter, GradientConcurrencyLimiter::getInFlight)
+                .register(meterRegistry);
+    }
+
+    public void checkRate(String clientKey) {
+        TokenBucket bucket = bucketFor(clientKey);
+        if (!bucket.tryConsume()) {
+            rateRejections.increment();
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(bucket.nanosUntilNextToken()));
+            throw new RateLimitExceededException("ratelimit.exceeded", retryAfter);
+        }
+    }
+
+    public void acquireConcurrencyPermit() {
+        if (!concurrencyLimiter.tryAcquire()) {
+            concurrencyRejections.increment();
+            throw new RateLimitExceededException("concurrency.limit.exceeded", 1);
+        }
+    }
+
+    public void releaseConcurrencyPermit(long rttNanos) {
+        concurrencyLimiter.release(rttNanos);
+    }
+
+    public boolean isKnownApiKey(String apiKey) {
+        return properties.getApiKeys().contains(apiKey);
+    }
+
+    @Scheduled(fixedDelayString = "${compawny.ratelimit.sweep-interval:PT1M}")
+    public void evictIdleBuckets() {
+        long idleNanos = properties.getIdleTimeout().toNanos();
+        buckets.values().removeIf(bucket -> bucket.idleNanos() > idleNanos);
+    }
+
+    /**
+     * Inserts are serialized so {@code maxClients} is a hard bound; once the map is full and nothing is idle,
+     * new clients share a single overflow bucket instead of growing the map.
+     */
+    private TokenBucket bucketFor(String clientKey) {
+        TokenBucket bucket = buckets.get(clientKey);
+        if (bucket != null) {
+            return bucket;
+        }
+        synchronized (buckets) {
+            bucket = buckets.get(clientKey);
+            if (bucket != null) {
+                return bucket;
+            }
+            if (buckets.size() >= properties.getMaxClients()) {
+                evictIdleBuckets();
+                if (buckets.size() >= properties.getMaxClients()) {
+                    return overflowBucket;
+                }
+            }
+            bucket = newBucket();
+            buckets.put(clientKey, bucket);
+            return bucket;
+        }
+    }
+
+    private TokenBucket newBucket() {
+        return new TokenBucket(properties.getCapacity(), properties.getRefillPerSecond());
+    }
+}
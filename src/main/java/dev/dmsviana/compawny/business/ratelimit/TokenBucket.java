@@ -0,0 +1,58 @@
+package dev.dmsviana.compawny.business.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+public class TokenBucket {
+
+    private final long capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(long capacity, double refillPerSecond) {
+        this(capacity, refillPerSecond, System::nanoTime);
+    }
+
+    public TokenBucket(long capacity, double refillPerSecond, LongSupplier nanoClock) {
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.nanoClock = nanoClock;
+        this.state = new AtomicReference<>(new State(capacity, nanoClock.getAsLong()));
+    }
+
+    public boolean tryConsume() {
+        while (true) {
+            State current = state.get();
+            long now = nanoClock.getAsLong();
+            double available = refill(current, now);
+            if (available < 1) {
+                return false;
+            }
+            if (state.compareAndSet(current, new State(available - 1, now))) {
+                return true;
+            }
+        }
+    }
+
+    public long nanosUntilNextToken() {
+        State current = state.get();
+        double missing = 1 - refill(current, nanoClock.getAsLong());
+        if (missing <= 0) {
+            return 0;
+        }
+        return tokensPerNano > 0 ? (long) Math.ceil(missing / tokensPerNano) : Long.MAX_VALUE;
+    }
+
+    public long idleNanos() {
+        return nanoClock.getAsLong() - state.get().timestamp();
+    }
+
+    private double refill(State current, long now) {
+        return Math.min(capacity, current.tokens() + (now - current.timestamp()) * tokensPerNano);
+    }
+
+    private record State(double tokens, long timestamp) {
+    }
+}
@@ -0,0 +1,22 @@
+package dev.dmsviana.compawny.business.ratelimit.exception;
+
+import dev.dmsviana.compawny.model.exception.CompawnyBusinessException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.util.Map;
+
+@Getter
+public class RateLimitExceededException extends CompawnyBusinessException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(
+                message,
+                HttpStatus.TOO_MANY_REQUESTS,
+                Map.of("description", "Too many requests, retry later")
+        );
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
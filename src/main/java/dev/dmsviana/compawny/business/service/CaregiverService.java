@@ -1,15 +1,24 @@
 package dev.dmsviana.compawny.business.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.dmsviana.compawny.business.bloom.UniqueKey;
+import dev.dmsviana.compawny.business.bloom.UniqueKeyFilter;
+import dev.dmsviana.compawny.business.config.properties.CaregiverProperties;
+import dev.dmsviana.compawny.business.config.properties.UniquenessProperties;
+import dev.dmsviana.compawny.business.service.reassignment.PetReassignmentService;
 import dev.dmsviana.compawny.model.entity.Caregiver;
 import dev.dmsviana.compawny.model.repository.CaregiverRepository;
+import dev.dmsviana.compawny.model.repository.exception.CaregiverCapacityExceededException;
 import dev.dmsviana.compawny.model.repository.exception.EntityAlreadyExistsException;
 import dev.dmsviana.compawny.model.repository.exception.EntityNotFoundException;
 import dev.dmsviana.compawny.presentation.dto.caregiver.CaregiverResponseDto;
 import dev.dmsviana.compawny.presentation.dto.caregiver.CreateCaregiverRequestDto;
 import dev.dmsviana.compawny.presentation.dto.caregiver.UpdateCaregiverRequestDto;
 import dev.dmsviana.compawny.presentation.dto.caregiver.mapper.CaregiverMapper;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -19,18 +28,37 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @Transactional
 @RequiredArgsConstructor
+@Observed(name = "compawny.service")
 public class CaregiverService {
 
+    private static final EntityNotFoundException CAREGIVER_NOT_FOUND =
+            new EntityNotFoundException("caregiver.notFound");
+    private static final EntityAlreadyExistsException CPF_DUPLICATE =
+            new EntityAlreadyExistsException("caregiver.cpf.duplicate");
+    private static final EntityAlreadyExistsException EMAIL_DUPLICATE =
+            new EntityAlreadyExistsException("caregiver.email.duplicate");
+    private static final CaregiverCapacityExceededException CAPACITY_EXCEEDED =
+            new CaregiverCapacityExceededException("caregiver.capacity.exceeded");
 
     private final CaregiverRepository caregiverRepository;
     private final CaregiverMapper caregiverMapper;
+    private final UniqueKeyFilter uniqueKeyFilter;
+    private final UniquenessProperties uniquenessProperties;
+    private final CaregiverProperties caregiverProperties;
+    private final PetReassignmentService petReassignmentService;
+    private final JsonMergePatch jsonMergePatch;
 
     public CaregiverResponseDto create(CreateCaregiverRequestDto requestDto) {
-        log.info("Creating new caregiver with CPF: {}", requestDto.getCpf());
-        validateUniqueness(requestDto.getCpf(), requestDto.getEmail());
+        log.debug("Creating new caregiver with CPF: {}", requestDto.getCpf());
+        boolean insertFirst = uniquenessProperties.isInsertFirst();
+        if (!insertFirst) {
+            validateUniqueness(requestDto.getCpf(), requestDto.getEmail());
+        }
 
         Caregiver caregiver = caregiverMapper.toEntity(requestDto);
-        Caregiver savedCaregiver = caregiverRepository.save(caregiver);
+        Caregiver savedCaregiver = insertFirst ? insert(caregiver) : caregiverRepository.save(caregiver);
+        uniqueKeyFilter.record(UniqueKey.CAREGIVER_CPF, savedCaregiver.getCpf());
+        uniqueKeyFilter.record(UniqueKey.CAREGIVER_EMAIL, savedCaregiver.getEmail());
 
         log.info("Caregiver created successfully with ID: {}", savedCaregiver.getId());
         return caregiverMapper.toDto(savedCaregiver);
@@ -50,39 +78,80 @@ public class CaregiverService {
     }
 
     public CaregiverResponseDto update(Long id, UpdateCaregiverRequestDto requestDto) {
-        log.info("Updating caregiver with ID: {}", id);
-        Caregiver caregiver = getCaregiverById(id);
-
-        caregiverMapper.updateEntityFromDto(requestDto, caregiver);
-        Caregiver updatedCaregiver = caregiverRepository.save(caregiver);
+        log.debug("Updating caregiver with ID: {}", id);
+        return applyUpdate(getCaregiverById(id), requestDto);
+    }
 
-        log.info("Caregiver updated successfully");
-        return caregiverMapper.toDto(updatedCaregiver);
+    public CaregiverResponseDto patch(Long id, JsonNode patch) {
+        log.debug("Patching caregiver with ID: {}", id);
+        Caregiver caregiver = getCaregiverById(id);
+        return applyUpdate(caregiver,
+                jsonMergePatch.apply(patch, caregiverMapper.toUpdateDto(caregiver), UpdateCaregiverRequestDto.class));
     }
 
     public void delete(Long id) {
-        log.info("Deleting caregiver with ID: {}", id);
+        log.debug("Deleting caregiver with ID: {}", id);
         Caregiver caregiver = getCaregiverById(id);
         caregiverRepository.delete(caregiver);
-        log.info("Caregiver deleted successfully");
+        petReassignmentService.detachAllAfterCommit(id);
+        log.info("Caregiver deleted successfully with ID: {}", id);
     }
 
     public Caregiver getCaregiverById(Long id) {
         return caregiverRepository.findByIdAndNotDeleted(id)
                 .orElseThrow(() -> {
-                    log.error("Caregiver not found with ID: {}", id);
-                    return new EntityNotFoundException("caregiver.notFound");
+                    log.debug("Caregiver not found with ID: {}", id);
+                    return CAREGIVER_NOT_FOUND;
                 });
     }
 
+    public void reserveSlot(Long id) {
+        if (caregiverRepository.reserveSlots(id, 1, caregiverProperties.getMaxPets()) == 1) {
+            return;
+        }
+        getCaregiverById(id);
+        log.debug("Caregiver {} reached the limit of {} pets", id, caregiverProperties.getMaxPets());
+        throw CAPACITY_EXCEEDED;
+    }
+
+    public void releaseSlot(Long id) {
+        caregiverRepository.releaseSlots(id, 1);
+    }
+
+    private CaregiverResponseDto applyUpdate(Caregiver caregiver, UpdateCaregiverRequestDto requestDto) {
+        caregiverMapper.updateEntityFromDto(requestDto, caregiver);
+        Caregiver updatedCaregiver = caregiverRepository.save(caregiver);
+
+        log.info("Caregiver updated successfully with ID: {}", updatedCaregiver.getId());
+        return caregiverMapper.toDto(updatedCaregiver);
+    }
+
+    private Caregiver insert(Caregiver caregiver) {
+        try {
+            return caregiverRepository.saveAndFlush(caregiver);
+        } catch (DataIntegrityViolationException e) {
+            if (UniqueConstraintViolations.violates(e, "uk_caregiver_tenant_cpf")) {
+                log.debug("CPF already exists: {}", caregiver.getCpf());
+                throw CPF_DUPLICATE;
+            }
+            if (UniqueConstraintViolations.violates(e, "uk_caregiver_tenant_email")) {
+                log.debug("Email already exists: {}", caregiver.getEmail());
+                throw EMAIL_DUPLICATE;
+            }
+            throw e;
+        }
+    }
+
     private void validateUniqueness(String cpf, String email) {
-        if (caregiverRepository.existsByCpfAndNotDeleted(cpf)) {
-            log.error("CPF already exists: {}", cpf);
-            throw new EntityAlreadyExistsException("caregiver.cpf.duplicate");
+        if (uniqueKeyFilter.mightExist(UniqueKey.CAREGIVER_CPF, cpf)
+                && caregiverRepository.existsByCpfAndNotDeleted(cpf)) {
+            log.debug("CPF already exists: {}", cpf);
+            throw CPF_DUPLICATE;
         }
-        if (caregiverRepository.existsByEmailAndNotDeleted(email)) {
-            log.error("Email already exists: {}", email);
-            throw new EntityAlreadyExistsException("caregiver.email.duplicate");
+        if (uniqueKeyFilter.mightExist(UniqueKey.CAREGIVER_EMAIL, email)
+                && caregiverRepository.existsByEmailAndNotDeleted(email)) {
+            log.debug("Email already exists: {}", email);
+            throw EMAIL_DUPLICATE;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package dev.dmsviana.compawny.business.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class JsonMergePatch {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public <T> T apply(JsonNode patch, T current, Class<T> type) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("patch.invalid");
+        }
+
+        T patched;
+        try {
+            patched = objectMapper.treeToValue(merge(objectMapper.valueToTree(current), patch), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("patch.invalid", e);
+        }
+
+        Set<ConstraintViolation<T>> violations = validator.validate(patched);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return patched;
+    }
+
+    // RFC 7396: null removes the member, objects merge recursively, any other value replaces it.
+    static JsonNode merge(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+        ObjectNode result = target != null && target.isObject()
+                ? ((ObjectNode) target).deepCopy()
+                : JsonNodeFactory.instance.objectNode();
+        patch.fields().forEachRemaining(member -> {
+            if (member.getValue().isNull()) {
+                result.remove(member.getKey());
+            } else {
+                result.set(member.getKey(), merge(result.get(member.getKey()), member.getValue()));
+            }
+        });
+        return result;
+    }
+}
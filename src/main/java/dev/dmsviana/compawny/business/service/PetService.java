@@ -1,5 +1,9 @@
 package dev.dmsviana.compawny.business.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.dmsviana.compawny.business.bloom.UniqueKey;
+import dev.dmsviana.compawny.business.bloom.UniqueKeyFilter;
+import dev.dmsviana.compawny.business.config.properties.UniquenessProperties;
 import dev.dmsviana.compawny.model.entity.Caregiver;
 import dev.dmsviana.compawny.model.entity.Pet;
 import dev.dmsviana.compawny.model.repository.PetRepository;
@@ -11,36 +15,54 @@ import dev.dmsviana.compawny.presentation.dto.pet.CreatePetRequestDto;
 import dev.dmsviana.compawny.presentation.dto.pet.PetResponseDto;
 import dev.dmsviana.compawny.presentation.dto.pet.UpdatePetRequestDto;
 import dev.dmsviana.compawny.presentation.dto.pet.mapper.PetMapper;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Objects;
+
 @Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
+@Observed(name = "compawny.service")
 public class PetService {
 
+    private static final EntityNotFoundException PET_NOT_FOUND =
+            new EntityNotFoundException("pet.notFound");
+    private static final EntityAlreadyExistsException REGISTRATION_DUPLICATE =
+            new EntityAlreadyExistsException("pet.registration.duplicate");
+
     private final PetRepository petRepository;
     private final PetMapper petMapper;
     private final CaregiverService caregiverService;
+    private final UniqueKeyFilter uniqueKeyFilter;
+    private final UniquenessProperties uniquenessProperties;
+    private final PetStatisticsService petStatisticsService;
+    private final JsonMergePatch jsonMergePatch;
 
     public PetResponseDto create(CreatePetRequestDto requestDto) {
-        log.info("Creating new pet with registration: {}", requestDto.getRegistrationNumber());
-        validateRegistrationNumber(requestDto.getRegistrationNumber());
-        validateCaregiverId(requestDto.getCaregiverId());
+        log.debug("Creating new pet with registration: {}", requestDto.getRegistrationNumber());
+        boolean insertFirst = uniquenessProperties.isInsertFirst();
+        if (!insertFirst) {
+            validateRegistrationNumber(requestDto.getRegistrationNumber());
+        }
 
         Pet pet = petMapper.toEntity(requestDto);
 
         if (requestDto.getCaregiverId() != null) {
-            var caregiver = caregiverService.getCaregiverById(requestDto.getCaregiverId());
-            pet.setCaregiver(caregiver);
+            caregiverService.reserveSlot(requestDto.getCaregiverId());
+            pet.setCaregiver(caregiverService.getCaregiverById(requestDto.getCaregiverId()));
         }
 
-        Pet savedPet = petRepository.save(pet);
+        Pet savedPet = insertFirst ? insert(pet) : petRepository.save(pet);
+        uniqueKeyFilter.record(UniqueKey.PET_REGISTRATION, savedPet.getRegistrationNumber());
+        petStatisticsService.recordCreated(savedPet);
 
         log.info("Pet created successfully with ID: {}", savedPet.getId());
         return petMapper.toDto(savedPet);
@@ -60,42 +82,87 @@ public class PetService {
     }
 
     public PetResponseDto update(Long id, UpdatePetRequestDto requestDto) {
-        log.info("Updating pet with ID: {}", id);
-        Pet pet = getPetById(id);
-        validateCaregiverId(requestDto.getCaregiverId());
-
-        petMapper.updateEntityFromDto(requestDto, pet);
-        Pet updatedPet = petRepository.save(pet);
+        log.debug("Updating pet with ID: {}", id);
+        return applyUpdate(getPetById(id), requestDto);
+    }
 
-        log.info("Pet updated successfully");
-        return petMapper.toDto(updatedPet);
+    public PetResponseDto patch(Long id, JsonNode patch) {
+        log.debug("Patching pet with ID: {}", id);
+        Pet pet = getPetById(id);
+        return applyUpdate(pet, jsonMergePatch.apply(patch, petMapper.toUpdateDto(pet), UpdatePetRequestDto.class));
     }
 
     public void delete(Long id) {
-        log.info("Deleting pet with ID: {}", id);
+        log.debug("Deleting pet with ID: {}", id);
         Pet pet = getPetById(id);
         petRepository.delete(pet);
-        log.info("Pet deleted successfully");
+        if (pet.getCaregiver() != null) {
+            caregiverService.releaseSlot(pet.getCaregiver().getId());
+        }
+        petStatisticsService.recordDeleted(pet);
+        log.info("Pet deleted successfully with ID: {}", id);
+    }
+
+    // Unchanged fields are written back with their current values, so dirty checking plus
+    // @DynamicUpdate keeps them out of the UPDATE statement.
+    private PetResponseDto applyUpdate(Pet pet, UpdatePetRequestDto requestDto) {
+        var statisticsKey = PetStatisticsService.PetKey.of(pet);
+
+        petMapper.updateEntityFromDto(requestDto, pet);
+        reassignCaregiver(pet, requestDto.getCaregiverId());
+        Pet updatedPet = petRepository.save(pet);
+        petStatisticsService.recordUpdated(statisticsKey, updatedPet);
+
+        log.info("Pet updated successfully with ID: {}", updatedPet.getId());
+        return petMapper.toDto(updatedPet);
     }
 
     private Pet getPetById(Long id) {
         return petRepository.findByIdAndNotDeleted(id)
                 .orElseThrow(() -> {
-                    log.error("Pet not found with ID: {}", id);
-                    return new EntityNotFoundException("pet.notFound");
+                    log.debug("Pet not found with ID: {}", id);
+                    return PET_NOT_FOUND;
                 });
     }
 
+    private Pet insert(Pet pet) {
+        try {
+            return petRepository.saveAndFlush(pet);
+        } catch (DataIntegrityViolationException e) {
+            if (UniqueConstraintViolations.violates(e, "uk_pet_tenant_registration_number")) {
+                log.debug("Registration number already exists: {}", pet.getRegistrationNumber());
+                throw REGISTRATION_DUPLICATE;
+            }
+            throw e;
+        }
+    }
+
     private void validateRegistrationNumber(String registrationNumber) {
-        if (petRepository.existsByRegistrationNumber(registrationNumber)) {
-            log.error("Registration number already exists: {}", registrationNumber);
-            throw new EntityAlreadyExistsException("pet.registration.duplicate");
+        if (uniqueKeyFilter.mightExist(UniqueKey.PET_REGISTRATION, registrationNumber)
+                && petRepository.existsByRegistrationNumber(registrationNumber)) {
+            log.debug("Registration number already exists: {}", registrationNumber);
+            throw REGISTRATION_DUPLICATE;
         }
     }
 
-    private void validateCaregiverId(Long caregiverId) {
-        if (caregiverId != null) {
-            caregiverService.findById(caregiverId);
+    private void reassignCaregiver(Pet pet, Long caregiverId) {
+        Long currentCaregiverId = pet.getCaregiver() != null ? pet.getCaregiver().getId() : null;
+        if (Objects.equals(currentCaregiverId, caregiverId)) {
+            return;
+        }
+
+        // Touch caregiver rows in id order so two opposite swaps cannot deadlock each other.
+        if (currentCaregiverId != null && (caregiverId == null || currentCaregiverId < caregiverId)) {
+            caregiverService.releaseSlot(currentCaregiverId);
+            if (caregiverId != null) {
+                caregiverService.reserveSlot(caregiverId);
+            }
+        } else {
+            caregiverService.reserveSlot(caregiverId);
+            if (currentCaregiverId != null) {
+                caregiverService.releaseSlot(currentCaregiverId);
+            }
         }
+        pet.setCaregiver(caregiverId != null ? caregiverService.getCaregiverById(caregiverId) : null);
     }
 }
\ No newline at end of file
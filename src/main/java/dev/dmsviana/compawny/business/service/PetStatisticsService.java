@@ -0,0 +1,235 @@
+package dev.dmsviana.compawny.business.service;
+
+import dev.dmsviana.compawny.business.context.TenantContext;
+import dev.dmsviana.compawny.model.entity.Pet;
+import dev.dmsviana.compawny.model.entity.types.AgeBucket;
+import dev.dmsviana.compawny.model.entity.types.PetType;
+import dev.dmsviana.compawny.model.repository.PetRepository;
+import dev.dmsviana.compawny.model.repository.projection.PetStatisticsProjection;
+import dev.dmsviana.compawny.presentation.dto.pet.PetStatisticsResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+public class PetStatisticsService {
+
+    private final PetRepository petRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate reconcileTransaction;
+
+    // Deltas hold the read side from before their commit until they are applied; reconcile takes the write side
+    // only to pin its snapshot and to publish, so every delta is either in the grouped query or in the log.
+    private final ReadWriteLock commitGate = new ReentrantReadWriteLock();
+
+    private volatile Tenants counters = new Tenants(null);
+    private volatile Queue<Consumer<Tenants>> reconcileLog;
+
+    public PetStatisticsService(
+            PetRepository petRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.petRepository = petRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.reconcileTransaction = new TransactionTemplate(transactionManager);
+        this.reconcileTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    public void recordCreated(Pet pet) {
+        PetKey key = PetKey.of(pet);
+        afterCommit(current -> current.add(key, 1));
+    }
+
+    public void recordUpdated(PetKey before, Pet pet) {
+        PetKey after = PetKey.of(pet);
+        if (before.equals(after)) {
+            return;
+        }
+        afterCommit(current -> {
+            current.add(before, -1);
+            current.add(after, 1);
+        });
+    }
+
+    public void recordDeleted(Pet pet) {
+        PetKey key = PetKey.of(pet);
+        afterCommit(current -> current.add(key, -1));
+    }
+
+    public PetStatisticsResponseDto getStatistics() {
+        return counters.toDto(TenantContext.currentTenant());
+    }
+
+    // One grouped query across every clinic, in a repeatable-read transaction whose snapshot is taken while no delta
+    // sits between its commit and its application. Deltas committed after that point are missing from the query, so
+    // they are logged and replayed onto the new counters before those are published.
+    @Scheduled(
+            initialDelayString = "${compawny.statistics.initial-delay:PT0S}",
+            fixedDelayString = "${compawny.statistics.reconcile-interval:PT5M}"
+    )
+    public void reconcile() {
+        Tenants reconciled = new Tenants(LocalDateTime.now());
+        Queue<Consumer<Tenants>> pending = new ConcurrentLinkedQueue<>();
+        try {
+            TenantContext.runAsRoot(() -> reconcileTransaction.executeWithoutResult(status -> {
+                withCommitGate(() -> {
+                    jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+                    reconcileLog = pending;
+                });
+                for (PetStatisticsProjection row : petRepository.countByTypeBreedAndBirthDate()) {
+                    reconciled.add(new PetKey(row.getTenantId(), row.getType(), row.getBreed(), row.getBirthDate()),
+                            row.getTotal());
+                }
+            }));
+            withCommitGate(() -> {
+                pending.forEach(delta -> delta.accept(reconciled));
+                counters = reconciled;
+            });
+        } finally {
+            reconcileLog = null;
+        }
+        log.debug("Pet statistics reconciled for {} tenants, {} deltas replayed",
+                reconciled.byTenant.size(), pending.size());
+    }
+
+    private void afterCommit(Consumer<Tenants> delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commitGate.readLock().lock();
+            try {
+                apply(delta);
+            } finally {
+                commitGate.readLock().unlock();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean gated;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commitGate.readLock().lock();
+                gated = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                apply(delta);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (gated) {
+                    commitGate.readLock().unlock();
+                }
+            }
+        });
+    }
+
+    private void apply(Consumer<Tenants> delta) {
+        delta.accept(counters);
+        Queue<Consumer<Tenants>> pending = reconcileLog;
+        if (pending != null) {
+            pending.add(delta);
+        }
+    }
+
+    private void withCommitGate(Runnable action) {
+        commitGate.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            commitGate.writeLock().unlock();
+        }
+    }
+
+    public record PetKey(String tenantId, PetType type, String breed, LocalDate birthDate) {
+
+        public static PetKey of(Pet pet) {
+            String tenantId = pet.getTenantId() != null ? pet.getTenantId() : TenantContext.currentTenant();
+            return new PetKey(tenantId, pet.getType(), pet.getBreed(), pet.getBirthDate());
+        }
+    }
+
+    private static final class Tenants {
+
+        private static final Counters EMPTY = new Counters();
+
+        private final LocalDateTime reconciledAt;
+        private final Map<String, Counters> byTenant = new ConcurrentHashMap<>();
+
+        private Tenants(LocalDateTime reconciledAt) {
+            this.reconciledAt = reconciledAt;
+        }
+
+        private void add(PetKey key, long delta) {
+            byTenant.computeIfAbsent(key.tenantId(), tenantId -> new Counters()).add(key, delta);
+        }
+
+        private PetStatisticsResponseDto toDto(String tenantId) {
+            return byTenant.getOrDefault(tenantId, EMPTY).toDto(reconciledAt);
+        }
+    }
+
+    private static final class Counters {
+
+        private final LongAdder total = new LongAdder();
+        private final Map<PetType, LongAdder> byType = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> byBreed = new ConcurrentHashMap<>();
+        // Keyed by birth date rather than age bucket: a pet ages into another bucket between its add and its
+        // later decrement, so buckets are only derived from the dates when the statistics are read.
+        private final Map<LocalDate, LongAdder> byBirthDate = new ConcurrentHashMap<>();
+
+        private void add(PetKey key, long delta) {
+            total.add(delta);
+            if (key.type() != null) {
+                byType.computeIfAbsent(key.type(), type -> new LongAdder()).add(delta);
+            }
+            if (key.breed() != null) {
+                byBreed.computeIfAbsent(key.breed(), breed -> new LongAdder()).add(delta);
+            }
+            if (key.birthDate() != null) {
+                byBirthDate.computeIfAbsent(key.birthDate(), birthDate -> new LongAdder()).add(delta);
+            }
+        }
+
+        private PetStatisticsResponseDto toDto(LocalDateTime reconciledAt) {
+            Map<PetType, Long> types = new EnumMap<>(PetType.class);
+            byType.forEach((type, count) -> types.put(type, count.sum()));
+            Map<String, Long> breeds = new TreeMap<>();
+            byBreed.forEach((breed, count) -> breeds.put(breed, count.sum()));
+            Map<AgeBucket, Long> ageBuckets = new EnumMap<>(AgeBucket.class);
+            LocalDate today = LocalDate.now();
+            byBirthDate.forEach((birthDate, count) ->
+                    ageBuckets.merge(AgeBucket.of(birthDate, today), count.sum(), Long::sum));
+
+            return PetStatisticsResponseDto.builder()
+                    .total(total.sum())
+                    .byType(types)
+                    .byBreed(breeds)
+                    .byAgeBucket(ageBuckets)
+                    .reconciledAt(reconciledAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package dev.dmsviana.compawny.business.service;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+final class UniqueConstraintViolations {
+
+    private UniqueConstraintViolations() {
+    }
+
+    static boolean violates(DataIntegrityViolationException e, String constraintName) {
+        String violated = violatedConstraint(e);
+        return violated != null && violated.contains(constraintName);
+    }
+
+    private static String violatedConstraint(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null ? message.toLowerCase(Locale.ROOT) : null;
+    }
+}
@@ -0,0 +1,191 @@
+package dev.dmsviana.compawny.business.service.reassignment;
+
+import dev.dmsviana.compawny.business.config.properties.CaregiverProperties;
+import dev.dmsviana.compawny.business.config.properties.ReassignmentProperties;
+import dev.dmsviana.compawny.model.repository.CaregiverRepository;
+import dev.dmsviana.compawny.model.repository.PetRepository;
+import dev.dmsviana.compawny.model.repository.exception.CaregiverCapacityExceededException;
+import dev.dmsviana.compawny.model.repository.exception.EntityNotFoundException;
+import io.micrometer.observation.annotation.Observed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+@Observed(name = "compawny.service")
+public class PetReassignmentService {
+
+    private static final EntityNotFoundException CAREGIVER_NOT_FOUND =
+            new EntityNotFoundException("caregiver.notFound");
+    private static final EntityNotFoundException JOB_NOT_FOUND =
+            new EntityNotFoundException("reassignment.notFound");
+    private static final CaregiverCapacityExceededException CAPACITY_EXCEEDED =
+            new CaregiverCapacityExceededException("caregiver.capacity.exceeded");
+
+    private final PetRepository petRepository;
+    private final CaregiverRepository caregiverRepository;
+    private final ReassignmentProperties properties;
+    private final CaregiverProperties caregiverProperties;
+    private final TaskExecutor reassignmentExecutor;
+    private final TransactionTemplate chunkTransaction;
+    private final Map<UUID, ReassignmentJob> jobs = new ConcurrentHashMap<>();
+
+    public PetReassignmentService(
+            PetRepository petRepository,
+            CaregiverRepository caregiverRepository,
+            ReassignmentProperties properties,
+            CaregiverProperties caregiverProperties,
+            @Qualifier("reassignmentExecutor") TaskExecutor reassignmentExecutor,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.petRepository = petRepository;
+        this.caregiverRepository = caregiverRepository;
+        this.properties = properties;
+        this.caregiverProperties = caregiverProperties;
+        this.reassignmentExecutor = reassignmentExecutor;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public ReassignmentJob reassign(Long caregiverId, Long targetCaregiverId) {
+        if (Objects.equals(caregiverId, targetCaregiverId)) {
+            throw new IllegalArgumentException("reassignment.sameCaregiver");
+        }
+        caregiverRepository.findByIdAndNotDeleted(caregiverId).orElseThrow(() -> CAREGIVER_NOT_FOUND);
+
+        long total = petRepository.countActiveByCaregiverId(caregiverId);
+        if (targetCaregiverId != null) {
+            int assignedPets = caregiverRepository.findAssignedPets(targetCaregiverId)
+                    .orElseThrow(() -> CAREGIVER_NOT_FOUND);
+            if (assignedPets + total > caregiverProperties.getMaxPets()) {
+                log.debug("Caregiver {} cannot take {} more pets", targetCaregiverId, total);
+                throw CAPACITY_EXCEEDED;
+            }
+        }
+        return start(caregiverId, targetCaregiverId, total);
+    }
+
+    // Handed to the reassignment executor so the count and the chunks run in their own transactions instead of
+    // on the request thread inside afterCommit; the job id is logged and can be polled like any reassignment.
+    public void detachAllAfterCommit(Long caregiverId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reassignmentExecutor.execute(() -> detachAll(caregiverId));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reassignmentExecutor.execute(() -> detachAll(caregiverId));
+            }
+        });
+    }
+
+    public ReassignmentJob getJob(Long caregiverId, UUID jobId) {
+        ReassignmentJob job = jobs.get(jobId);
+        if (job == null || !job.getSourceCaregiverId().equals(caregiverId)) {
+            throw JOB_NOT_FOUND;
+        }
+        return job;
+    }
+
+    @Scheduled(fixedDelayString = "${compawny.reassignment.cleanup-interval:PT10M}")
+    public void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(properties.getJobRetention());
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+
+    private void detachAll(Long caregiverId) {
+        try {
+            ReassignmentJob job = start(caregiverId, null, petRepository.countActiveByCaregiverId(caregiverId));
+            log.info("Detaching {} pets of deleted caregiver {} in job {}", job.getTotal(), caregiverId, job.getId());
+        } catch (RuntimeException e) {
+            log.error("Could not start detaching pets of deleted caregiver {}", caregiverId, e);
+        }
+    }
+
+    private ReassignmentJob start(Long caregiverId, Long targetCaregiverId, long total) {
+        ReassignmentJob job = new ReassignmentJob(caregiverId, targetCaregiverId, total);
+        jobs.put(job.getId(), job);
+        if (total > properties.getAsyncThreshold()) {
+            log.info("Reassigning {} pets of caregiver {} in background job {}", total, caregiverId, job.getId());
+            reassignmentExecutor.execute(() -> run(job));
+        } else {
+            run(job);
+        }
+        return job;
+    }
+
+    private void run(ReassignmentJob job) {
+        try {
+            Chunk chunk;
+            do {
+                chunk = Objects.requireNonNull(chunkTransaction.execute(status -> moveChunk(job)));
+                job.advance(chunk.moved());
+            } while (chunk.selected() > 0);
+            job.complete();
+            log.info("Reassignment job {} moved {} pets", job.getId(), job.getProcessed());
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+            log.warn("Reassignment job {} failed after {} pets", job.getId(), job.getProcessed(), e);
+        }
+    }
+
+    private Chunk moveChunk(ReassignmentJob job) {
+        Long source = job.getSourceCaregiverId();
+        Long target = job.getTargetCaregiverId();
+        List<Long> ids = petRepository.findActiveIdsByCaregiverId(source, PageRequest.of(0, properties.getChunkSize()));
+        if (ids.isEmpty()) {
+            return Chunk.EMPTY;
+        }
+
+        // Same id ordering as single-pet moves, so bulk and per-pet updates cannot deadlock.
+        if (target == null || source < target) {
+            caregiverRepository.releaseSlots(source, ids.size());
+            reserveTarget(target, ids.size());
+        } else {
+            reserveTarget(target, ids.size());
+            caregiverRepository.releaseSlots(source, ids.size());
+        }
+
+        // The ids were read without a lock, so the updates re-check the source caregiver. Pets a concurrent
+        // PUT or PATCH moved in between are skipped and their slots handed back, keeping assigned_pets exact.
+        int moved = target == null
+                ? petRepository.detachCaregiver(ids, source)
+                : petRepository.assignCaregiver(ids, source, caregiverRepository.getReferenceById(target));
+        int skipped = ids.size() - moved;
+        if (skipped > 0) {
+            caregiverRepository.restoreSlots(source, skipped);
+            if (target != null) {
+                caregiverRepository.releaseSlots(target, skipped);
+            }
+        }
+        return new Chunk(ids.size(), moved);
+    }
+
+    private void reserveTarget(Long target, int count) {
+        if (target != null && caregiverRepository.reserveSlots(target, count, caregiverProperties.getMaxPets()) == 0) {
+            throw CAPACITY_EXCEEDED;
+        }
+    }
+
+    private record Chunk(int selected, int moved) {
+
+        private static final Chunk EMPTY = new Chunk(0, 0);
+    }
+}
@@ -0,0 +1,54 @@
+package dev.dmsviana.compawny.business.service.reassignment;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Getter
+public class ReassignmentJob {
+
+    private final UUID id = UUID.randomUUID();
+    private final Long sourceCaregiverId;
+    private final Long targetCaregiverId;
+    private final long total;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong processed = new AtomicLong();
+
+    private volatile ReassignmentStatus status = ReassignmentStatus.RUNNING;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    public ReassignmentJob(Long sourceCaregiverId, Long targetCaregiverId, long total) {
+        this.sourceCaregiverId = sourceCaregiverId;
+        this.targetCaregiverId = targetCaregiverId;
+        this.total = total;
+    }
+
+    public long getProcessed() {
+        return processed.get();
+    }
+
+    public boolean isFinished() {
+        return status != ReassignmentStatus.RUNNING;
+    }
+
+    void advance(int count) {
+        processed.addAndGet(count);
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        status = ReassignmentStatus.COMPLETED;
+    }
+
+    void fail(String message) {
+        error = message;
+        finishedAt = LocalDateTime.now();
+        status = ReassignmentStatus.FAILED;
+    }
+}
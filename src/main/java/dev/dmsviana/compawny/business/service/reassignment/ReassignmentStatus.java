@@ -0,0 +1,7 @@
+package dev.dmsviana.compawny.business.service.reassignment;
+
+public enum ReassignmentStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
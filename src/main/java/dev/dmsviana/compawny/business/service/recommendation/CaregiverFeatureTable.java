@@ -0,0 +1,91 @@
+package dev.dmsviana.compawny.business.service.recommendation;
+
+import dev.dmsviana.compawny.business.config.properties.CaregiverProperties;
+import dev.dmsviana.compawny.business.context.TenantContext;
+import dev.dmsviana.compawny.model.entity.Caregiver;
+import dev.dmsviana.compawny.model.entity.types.PetType;
+import dev.dmsviana.compawny.model.repository.CaregiverRepository;
+import dev.dmsviana.compawny.model.repository.PetRepository;
+import dev.dmsviana.compawny.model.repository.projection.CaregiverPetTypeCountProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CaregiverFeatureTable {
+
+    private final CaregiverRepository caregiverRepository;
+    private final PetRepository petRepository;
+    private final CaregiverProperties caregiverProperties;
+
+    private static final Snapshot EMPTY = new Snapshot(List.of(), 0, 0, 0);
+
+    private volatile Map<String, Snapshot> snapshots = Map.of();
+
+    public Snapshot snapshot(String tenantId) {
+        return snapshots.getOrDefault(tenantId, EMPTY);
+    }
+
+    // Loaded across every clinic in one pass, then split so a ranking never sees another clinic's caregivers.
+    // Load is the assigned_pets counter the capacity checks maintain; caregivers already at max-pets are left
+    // out, since assigning them would be refused.
+    @Scheduled(
+            initialDelayString = "${compawny.recommendation.initial-delay:PT0S}",
+            fixedDelayString = "${compawny.recommendation.refresh-interval:PT1M}"
+    )
+    public void refresh() {
+        Map<Long, int[]> experience = new HashMap<>();
+        List<Caregiver> caregivers = new ArrayList<>();
+        TenantContext.runAsRoot(() -> {
+            for (CaregiverPetTypeCountProjection row : petRepository.countByCaregiverAndType()) {
+                experience.computeIfAbsent(row.getCaregiverId(), id -> new int[PetType.values().length])
+                        [row.getType().ordinal()] = row.getTotal().intValue();
+            }
+            caregivers.addAll(caregiverRepository.findAllActive());
+        });
+
+        Map<String, List<CaregiverFeatures>> featuresByTenant = new HashMap<>();
+        for (Caregiver caregiver : caregivers) {
+            if (!Boolean.TRUE.equals(caregiver.getAvailable())) {
+                continue;
+            }
+            int load = caregiver.getAssignedPets() != null ? caregiver.getAssignedPets() : 0;
+            if (load >= caregiverProperties.getMaxPets()) {
+                continue;
+            }
+            int[] byType = experience.getOrDefault(caregiver.getId(), new int[PetType.values().length]);
+            featuresByTenant.computeIfAbsent(caregiver.getTenantId(), tenantId -> new ArrayList<>())
+                    .add(new CaregiverFeatures(caregiver.getId(), caregiver.getName(), caregiver.getHourlyRate(),
+                            caregiver.getHourlyRate().doubleValue(), load, byType));
+        }
+
+        Map<String, Snapshot> refreshed = new HashMap<>();
+        featuresByTenant.forEach((tenantId, features) -> refreshed.put(tenantId, Snapshot.of(features)));
+        snapshots = Map.copyOf(refreshed);
+        log.debug("Caregiver feature table refreshed with {} caregivers across {} tenants",
+                caregivers.size(), refreshed.size());
+    }
+
+    public record Snapshot(List<CaregiverFeatures> caregivers, double minRate, double maxRate, int maxLoad) {
+
+        static Snapshot of(List<CaregiverFeatures> features) {
+            double minRate = Double.MAX_VALUE;
+            double maxRate = 0;
+            int maxLoad = 0;
+            for (CaregiverFeatures caregiver : features) {
+                minRate = Math.min(minRate, caregiver.rate());
+                maxRate = Math.max(maxRate, caregiver.rate());
+                maxLoad = Math.max(maxLoad, caregiver.load());
+            }
+            return new Snapshot(List.copyOf(features), features.isEmpty() ? 0 : minRate, maxRate, maxLoad);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package dev.dmsviana.compawny.business.service.recommendation;
+
+import dev.dmsviana.compawny.model.entity.types.PetType;
+
+import java.math.BigDecimal;
+
+public record CaregiverFeatures(
+        Long id,
+        String name,
+        BigDecimal hourlyRate,
+        double rate,
+        int load,
+        int[] experienceByType
+) {
+
+    public int experienceWith(PetType type) {
+        return experienceByType[type.ordinal()];
+    }
+}
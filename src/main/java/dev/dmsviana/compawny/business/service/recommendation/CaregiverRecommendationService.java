@@ -0,0 +1,85 @@
+package dev.dmsviana.compawny.business.service.recommendation;
+
+import dev.dmsviana.compawny.business.config.properties.RecommendationProperties;
+import dev.dmsviana.compawny.model.entity.Pet;
+import dev.dmsviana.compawny.model.entity.types.PetType;
+import dev.dmsviana.compawny.model.repository.PetRepository;
+import dev.dmsviana.compawny.model.repository.exception.EntityNotFoundException;
+import dev.dmsviana.compawny.presentation.dto.caregiver.CaregiverRecommendationResponseDto;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Observed(name = "compawny.service")
+public class CaregiverRecommendationService {
+
+    private static final EntityNotFoundException PET_NOT_FOUND =
+            new EntityNotFoundException("pet.notFound");
+
+    private final PetRepository petRepository;
+    private final CaregiverFeatureTable featureTable;
+    private final RecommendationProperties properties;
+
+    @Transactional(readOnly = true)
+    public List<CaregiverRecommendationResponseDto> recommend(Long petId, int limit) {
+        Pet pet = petRepository.findByIdAndNotDeleted(petId).orElseThrow(() -> PET_NOT_FOUND);
+        int k = Math.max(1, Math.min(limit, properties.getMaxResults()));
+        CaregiverFeatureTable.Snapshot snapshot = featureTable.snapshot(pet.getTenantId());
+
+        PriorityQueue<Scored> topK = new PriorityQueue<>(k + 1, Comparator.comparingDouble(Scored::score));
+        for (CaregiverFeatures caregiver : snapshot.caregivers()) {
+            double score = score(caregiver, pet.getType(), snapshot);
+            if (topK.size() < k) {
+                topK.offer(new Scored(caregiver, score));
+            } else if (score > topK.peek().score()) {
+                topK.poll();
+                topK.offer(new Scored(caregiver, score));
+            }
+        }
+
+        List<CaregiverRecommendationResponseDto> recommendations = new ArrayList<>(topK.size());
+        while (!topK.isEmpty()) {
+            recommendations.add(toDto(topK.poll(), pet.getType()));
+        }
+        log.debug("Ranked {} caregivers for pet {}", snapshot.caregivers().size(), petId);
+        return recommendations.reversed();
+    }
+
+    // Load counts every pet a caregiver holds; experience counts only the ones of this pet's type.
+    private double score(CaregiverFeatures caregiver, PetType type, CaregiverFeatureTable.Snapshot snapshot) {
+        double rateRange = snapshot.maxRate() - snapshot.minRate();
+        double priceScore = rateRange > 0 ? (snapshot.maxRate() - caregiver.rate()) / rateRange : 1.0;
+        double loadScore = 1.0 - (double) caregiver.load() / (snapshot.maxLoad() + 1);
+        int experience = caregiver.experienceWith(type);
+        double experienceScore = experience / (experience + 2.0);
+
+        return properties.getPriceWeight() * priceScore
+                + properties.getLoadWeight() * loadScore
+                + properties.getExperienceWeight() * experienceScore;
+    }
+
+    private CaregiverRecommendationResponseDto toDto(Scored scored, PetType type) {
+        CaregiverFeatures caregiver = scored.caregiver();
+        return CaregiverRecommendationResponseDto.builder()
+                .caregiverId(caregiver.id())
+                .name(caregiver.name())
+                .hourlyRate(caregiver.hourlyRate())
+                .currentLoad(caregiver.load())
+                .typeExperience(caregiver.experienceWith(type))
+                .score(scored.score())
+                .build();
+    }
+
+    private record Scored(CaregiverFeatures caregiver, double score) {
+    }
+}
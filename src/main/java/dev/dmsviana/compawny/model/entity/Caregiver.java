@@ -6,6 +6,7 @@ import jakarta.persistence.Table;
 import jakarta.validation.constraints.*;
 import lombok.*;
 import org.hibernate.annotations.*;
+import org.hibernate.annotations.Cache;
 import org.hibernate.validator.constraints.br.CPF;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -27,23 +28,28 @@ import static java.math.RoundingMode.HALF_UP;
 @EqualsAndHashCode(of = {"id", "cpf", "email"})
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@DynamicUpdate
 @EntityListeners(AuditingEntityListener.class)
 @Table(
         name = "caregivers",
         uniqueConstraints = {
-                @UniqueConstraint(name = "uk_caregiver_cpf", columnNames = "cpf"),
-                @UniqueConstraint(name = "uk_caregiver_email", columnNames = "email")
+                @UniqueConstraint(name = "uk_caregiver_tenant_cpf", columnNames = {"tenant_id", "cpf"}),
+                @UniqueConstraint(name = "uk_caregiver_tenant_email", columnNames = {"tenant_id", "email"})
         },
         indexes = {
-                @Index(name = "idx_caregiver_cpf", columnList = "cpf"),
-                @Index(name = "idx_caregiver_email", columnList = "email"),
-                @Index(name = "idx_caregiver_available", columnList = "available")
+                @Index(name = "idx_caregiver_tenant_available_deleted", columnList = "tenant_id, available, deleted"),
+                @Index(name = "idx_caregiver_tenant_updated_at", columnList = "tenant_id, updated_at")
         }
 )
 @SQLDelete(sql = "UPDATE caregivers SET deleted = true WHERE id = ?")
 @Where(clause = "deleted = false")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Caregiver.CACHE_REGION)
 public class Caregiver implements Serializable {
 
+    public static final String CACHE_REGION = "caregivers";
+    public static final String QUERY_CACHE_REGION = "caregiver-queries";
+    public static final String SLOT_COUNTER_SPACE = "caregiver_slots";
+
     @Serial
     private static final long serialVersionUID = 1L;
 
@@ -51,6 +57,10 @@ public class Caregiver implements Serializable {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    private String tenantId;
+
     @NotBlank(message = "{caregiver.name.notblank}")
     @Size(min = 3, max = 100, message = "{caregiver.name.size}")
     @Column(nullable = false, length = 100)
@@ -88,6 +98,9 @@ public class Caregiver implements Serializable {
     @Column(nullable = false)
     private Boolean available = true;
 
+    @Column(name = "assigned_pets", nullable = false, insertable = false, updatable = false)
+    private Integer assignedPets;
+
     @Builder.Default
     @Column(nullable = false)
     private Boolean deleted = false;
@@ -6,6 +6,10 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.TenantId;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -23,8 +27,9 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode(of = {"id", "name", "registrationNumber"})
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@DynamicUpdate
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "pets", uniqueConstraints = {@UniqueConstraint(name = "uk_pet_registration_number", columnNames = "registration_number")}, indexes = {@Index(name = "idx_pet_registration", columnList = "registration_number"), @Index(name = "idx_pet_caregiver", columnList = "caregiver_id")})
+@Table(name = "pets", uniqueConstraints = {@UniqueConstraint(name = "uk_pet_tenant_registration_number", columnNames = {"tenant_id", "registration_number"})}, indexes = {@Index(name = "idx_pet_tenant_caregiver_deleted", columnList = "tenant_id, caregiver_id, deleted"), @Index(name = "idx_pet_tenant_updated_at", columnList = "tenant_id, updated_at")})
 public class Pet implements Serializable {
 
     @Serial
@@ -34,17 +39,22 @@ public class Pet implements Serializable {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    private String tenantId;
+
     @NotBlank(message = "{pet.name.notblank}")
     @Size(min = 2, max = 100, message = "{pet.name.size}")
     @Column(nullable = false, length = 100)
     private String name;
 
     @NotBlank(message = "{pet.registration.notblank}")
-    @Column(name = "registration_number", nullable = false, unique = true)
+    @Column(name = "registration_number", nullable = false)
     private String registrationNumber;
 
     @NotNull(message = "{pet.type.notnull}")
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(nullable = false, length = 20)
     private PetType type;
 
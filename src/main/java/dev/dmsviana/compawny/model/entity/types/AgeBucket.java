@@ -0,0 +1,33 @@
+package dev.dmsviana.compawny.model.entity.types;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+public enum AgeBucket {
+
+    UNDER_ONE("Filhote", 0, 1),
+    ONE_TO_THREE("Jovem", 1, 4),
+    FOUR_TO_SEVEN("Adulto", 4, 8),
+    EIGHT_OR_MORE("Idoso", 8, Integer.MAX_VALUE);
+
+    public final String description;
+    private final int minYears;
+    private final int maxYearsExclusive;
+
+    AgeBucket(String description, int minYears, int maxYearsExclusive) {
+        this.description = description;
+        this.minYears = minYears;
+        this.maxYearsExclusive = maxYearsExclusive;
+    }
+
+    public static AgeBucket of(LocalDate birthDate, LocalDate today) {
+        int years = Math.max(0, Period.between(birthDate, today).getYears());
+        for (AgeBucket bucket : values()) {
+            if (years >= bucket.minYears && years < bucket.maxYearsExclusive) {
+                return bucket;
+            }
+        }
+        return EIGHT_OR_MORE;
+    }
+
+}
@@ -8,28 +8,27 @@ import java.util.Map;
 @Getter
 public abstract class CompawnyBusinessException extends CompawnyException {
 
+    private static final Map<String, Object> DEFAULT_METADATA =
+            Map.of("description", "Ops! Não conseguimos processar a sua requisição");
+
     protected CompawnyBusinessException(
             String message,
             HttpStatus status,
             Map<String, Object> metadata
     ) {
-        super(message, status, metadata);
+        super(message, status, metadata, false);
     }
 
     protected CompawnyBusinessException(
             String message,
             Map<String, Object> metadata
     ) {
-        super(message, HttpStatus.BAD_REQUEST, metadata);
+        super(message, HttpStatus.BAD_REQUEST, metadata, false);
     }
 
     protected CompawnyBusinessException(
             String message
     ) {
-        super(
-                message,
-                HttpStatus.BAD_REQUEST,
-                Map.of("description", "Ops! Não conseguimos processar a sua requisição")
-        );
+        super(message, HttpStatus.BAD_REQUEST, DEFAULT_METADATA, false);
     }
-}
\ No newline at end of file
+}
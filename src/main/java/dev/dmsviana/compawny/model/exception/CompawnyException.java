@@ -20,4 +20,14 @@ public abstract class CompawnyException extends RuntimeException {
         this.metadata = metadata;
     }
 
+    protected CompawnyException(
+            final String message,
+            final HttpStatus status,
+            final Map<String, Object> metadata,
+            final boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.status = status;
+        this.metadata = metadata;
+    }
+
 }
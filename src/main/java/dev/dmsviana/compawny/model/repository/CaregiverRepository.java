@@ -1,12 +1,21 @@
 package dev.dmsviana.compawny.model.repository;
 
 import dev.dmsviana.compawny.model.entity.Caregiver;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
 
 public interface CaregiverRepository extends JpaRepository<Caregiver, Long> {
 
@@ -19,6 +28,40 @@ public interface CaregiverRepository extends JpaRepository<Caregiver, Long> {
     @Query("SELECT c FROM Caregiver c WHERE c.deleted = false")
     List<Caregiver> findAllActive();
 
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = Caregiver.QUERY_CACHE_REGION)
+    })
     @Query("SELECT c FROM Caregiver c WHERE c.id = :id AND c.deleted = false")
     Optional<Caregiver> findByIdAndNotDeleted(@Param("id") Long id);
+
+    @Query("SELECT c.assignedPets FROM Caregiver c WHERE c.id = :id AND c.deleted = false")
+    Optional<Integer> findAssignedPets(@Param("id") Long id);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT c.cpf FROM Caregiver c WHERE c.deleted = false")
+    Stream<String> streamActiveCpfs();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT c.email FROM Caregiver c WHERE c.deleted = false")
+    Stream<String> streamActiveEmails();
+
+    // The counter is never read from the cached entity, so these updates declare their own query space:
+    // a bulk update on the caregivers space would evict the whole second-level cache region on every pet write.
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = Caregiver.SLOT_COUNTER_SPACE))
+    @Query(value = "UPDATE caregivers SET assigned_pets = assigned_pets + :count " +
+            "WHERE id = :id AND deleted = false AND assigned_pets + :count <= :maxPets", nativeQuery = true)
+    int reserveSlots(@Param("id") Long id, @Param("count") int count, @Param("maxPets") int maxPets);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = Caregiver.SLOT_COUNTER_SPACE))
+    @Query(value = "UPDATE caregivers SET assigned_pets = " +
+            "CASE WHEN assigned_pets > :count THEN assigned_pets - :count ELSE 0 END WHERE id = :id", nativeQuery = true)
+    int releaseSlots(@Param("id") Long id, @Param("count") int count);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = Caregiver.SLOT_COUNTER_SPACE))
+    @Query(value = "UPDATE caregivers SET assigned_pets = assigned_pets + :count WHERE id = :id", nativeQuery = true)
+    int restoreSlots(@Param("id") Long id, @Param("count") int count);
 }
\ No newline at end of file
@@ -1,19 +1,64 @@
 package dev.dmsviana.compawny.model.repository;
 
+import dev.dmsviana.compawny.model.entity.Caregiver;
 import dev.dmsviana.compawny.model.entity.Pet;
+import dev.dmsviana.compawny.model.repository.projection.CaregiverPetTypeCountProjection;
+import dev.dmsviana.compawny.model.repository.projection.PetStatisticsProjection;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface PetRepository extends JpaRepository<Pet, Long> {
 
+    @Override
+    @EntityGraph(attributePaths = "caregiver")
+    Page<Pet> findAll(Pageable pageable);
 
-    @Query("SELECT p FROM Pet p WHERE p.id = :id AND p.deleted = false")
+    @Query("SELECT p FROM Pet p LEFT JOIN FETCH p.caregiver WHERE p.id = :id AND p.deleted = false")
     Optional<Pet> findByIdAndNotDeleted(@Param("id") Long id);
 
     @Query("SELECT CASE WHEN COUNT(p) > 0 THEN true ELSE false END FROM Pet p " +
             "WHERE p.registrationNumber = :registrationNumber AND p.deleted = false")
     boolean existsByRegistrationNumber(@Param("registrationNumber") String registrationNumber);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.registrationNumber FROM Pet p WHERE p.deleted = false")
+    Stream<String> streamActiveRegistrationNumbers();
+
+    @Query("SELECT p.tenantId AS tenantId, p.type AS type, p.breed AS breed, p.birthDate AS birthDate, COUNT(p) AS total " +
+            "FROM Pet p WHERE p.deleted = false GROUP BY p.tenantId, p.type, p.breed, p.birthDate")
+    List<PetStatisticsProjection> countByTypeBreedAndBirthDate();
+
+    @Query("SELECT p.caregiver.id AS caregiverId, p.type AS type, COUNT(p) AS total FROM Pet p " +
+            "WHERE p.deleted = false AND p.caregiver IS NOT NULL GROUP BY p.caregiver.id, p.type")
+    List<CaregiverPetTypeCountProjection> countByCaregiverAndType();
+
+    @Query("SELECT COUNT(p) FROM Pet p WHERE p.caregiver.id = :caregiverId AND p.deleted = false")
+    long countActiveByCaregiverId(@Param("caregiverId") Long caregiverId);
+
+    @Query("SELECT p.id FROM Pet p WHERE p.caregiver.id = :caregiverId AND p.deleted = false ORDER BY p.id")
+    List<Long> findActiveIdsByCaregiverId(@Param("caregiverId") Long caregiverId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Pet p SET p.caregiver = :caregiver, p.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE p.id IN :ids AND p.caregiver.id = :source AND p.deleted = false")
+    int assignCaregiver(@Param("ids") List<Long> ids, @Param("source") Long source,
+                        @Param("caregiver") Caregiver caregiver);
+
+    @Modifying
+    @Query("UPDATE Pet p SET p.caregiver = NULL, p.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE p.id IN :ids AND p.caregiver.id = :source AND p.deleted = false")
+    int detachCaregiver(@Param("ids") List<Long> ids, @Param("source") Long source);
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package dev.dmsviana.compawny.model.repository.exception;
+
+import dev.dmsviana.compawny.model.exception.CompawnyBusinessException;
+import org.springframework.http.HttpStatus;
+
+import java.util.Map;
+
+public class CaregiverCapacityExceededException extends CompawnyBusinessException {
+
+    public CaregiverCapacityExceededException(String message) {
+        super(
+                message,
+                HttpStatus.CONFLICT,
+                Map.of()
+        );
+    }
+}
@@ -7,11 +7,14 @@ import java.util.Map;
 
 public class EntityNotFoundException extends CompawnyBusinessException {
 
+    private static final Map<String, Object> METADATA =
+            Map.of("description", "The requested resource was not found");
+
     public EntityNotFoundException() {
         super(
                 "Ops! Não foi encontrado nenhum registro correspondente com essa busca",
                 HttpStatus.NOT_FOUND,
-                Map.of("description", "The requested resource was not found")
+                METADATA
         );
     }
 
@@ -19,7 +22,7 @@ public class EntityNotFoundException extends CompawnyBusinessException {
         super(
                 message,
                 HttpStatus.NOT_FOUND,
-                Map.of("description", "The requested resource was not found")
+                METADATA
         );
     }
-}
\ No newline at end of file
+}
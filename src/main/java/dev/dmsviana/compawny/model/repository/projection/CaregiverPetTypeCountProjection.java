@@ -0,0 +1,12 @@
+package dev.dmsviana.compawny.model.repository.projection;
+
+import dev.dmsviana.compawny.model.entity.types.PetType;
+
+public interface CaregiverPetTypeCountProjection {
+
+    Long getCaregiverId();
+
+    PetType getType();
+
+    Long getTotal();
+}
@@ -0,0 +1,18 @@
+package dev.dmsviana.compawny.model.repository.projection;
+
+import dev.dmsviana.compawny.model.entity.types.PetType;
+
+import java.time.LocalDate;
+
+public interface PetStatisticsProjection {
+
+    String getTenantId();
+
+    PetType getType();
+
+    String getBreed();
+
+    LocalDate getBirthDate();
+
+    Long getTotal();
+}
@@ -1,10 +1,16 @@
 package dev.dmsviana.compawny.presentation.advice;
 
+import dev.dmsviana.compawny.business.ratelimit.exception.RateLimitExceededException;
 import dev.dmsviana.compawny.model.exception.CompawnyBusinessException;
 import dev.dmsviana.compawny.model.repository.exception.EntityAlreadyExistsException;
 import dev.dmsviana.compawny.model.repository.exception.EntityNotFoundException;
 import dev.dmsviana.compawny.presentation.dto.error.ErrorResponseDto;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -17,8 +23,11 @@ import java.util.HashMap;
 import java.util.Map;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final Tracer tracer;
+
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<ErrorResponseDto> handleEntityNotFound(
             EntityNotFoundException ex,
@@ -74,6 +83,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(ex.getStatus()).body(error);
     }
 
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponseDto> handleRateLimitExceeded(
+            RateLimitExceededException ex,
+            ServletWebRequest request) {
+        var error = createError(
+                HttpStatus.TOO_MANY_REQUESTS,
+                ex.getMessage(),
+                ex.getMetadata(),
+                request
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponseDto> handleIllegalArgumentException(
             IllegalArgumentException e,
@@ -111,6 +135,30 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ErrorResponseDto> handleConstraintViolationException(
+            ConstraintViolationException e,
+            ServletWebRequest request) {
+        Map<String, Object> errors = new HashMap<>();
+        e.getConstraintViolations().forEach(violation -> {
+            errors.put(
+                    "field[" + violation.getPropertyPath() + "]",
+                    violation.getMessage()
+            );
+        });
+
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("errors", errors);
+
+        var error = createError(
+                HttpStatus.BAD_REQUEST,
+                "Ops! Não conseguimos processar a sua requisição",
+                metadata,
+                request
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponseDto> handleGenericException(
             Exception e,
@@ -138,7 +186,13 @@ public class GlobalExceptionHandler {
                 message,
                 metadata,
                 request.getRequest().getRequestURL().toString(),
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                currentTraceId()
         );
     }
+
+    private String currentTraceId() {
+        Span span = tracer.currentSpan();
+        return span != null ? span.context().traceId() : null;
+    }
 }
\ No newline at end of file
@@ -1,52 +1,82 @@
 package dev.dmsviana.compawny.presentation.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.dmsviana.compawny.business.logging.ReadLogSampler;
 import dev.dmsviana.compawny.business.service.CaregiverService;
+import dev.dmsviana.compawny.business.service.reassignment.PetReassignmentService;
 import dev.dmsviana.compawny.presentation.controller.contract.CaregiverApiContract;
 import dev.dmsviana.compawny.presentation.dto.caregiver.CaregiverResponseDto;
 import dev.dmsviana.compawny.presentation.dto.caregiver.CreateCaregiverRequestDto;
+import dev.dmsviana.compawny.presentation.dto.caregiver.ReassignPetsRequestDto;
+import dev.dmsviana.compawny.presentation.dto.caregiver.ReassignmentJobResponseDto;
 import dev.dmsviana.compawny.presentation.dto.caregiver.UpdateCaregiverRequestDto;
+import dev.dmsviana.compawny.presentation.dto.page.PageResponseDto;
+import io.micrometer.observation.annotation.Observed;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.UUID;
+
 @Slf4j
 @RestController
 @RequiredArgsConstructor
 @Tag(name = "Caregivers")
+@Observed(name = "compawny.controller")
 public class CaregiverController implements CaregiverApiContract {
 
     private final CaregiverService caregiverService;
+    private final PetReassignmentService petReassignmentService;
+    private final ReadLogSampler readLogSampler;
 
     @Override
     public CaregiverResponseDto create(CreateCaregiverRequestDto requestDto) {
-        log.info("REST request to create Caregiver");
         return caregiverService.create(requestDto);
     }
 
     @Override
-    public Page<CaregiverResponseDto> getAll(Pageable pageable) {
-        log.info("REST request to get all Caregivers");
-        return caregiverService.findAll(pageable);
+    public PageResponseDto<CaregiverResponseDto> getAll(Pageable pageable) {
+        if (readLogSampler.sample()) {
+            log.info("REST request to get all Caregivers: {}", pageable);
+        }
+        return PageResponseDto.of(caregiverService.findAll(pageable));
     }
 
     @Override
     public CaregiverResponseDto getById(Long id) {
-        log.info("REST request to get Caregiver : {}", id);
+        if (readLogSampler.sample()) {
+            log.info("REST request to get Caregiver : {}", id);
+        }
         return caregiverService.findById(id);
     }
 
     @Override
     public CaregiverResponseDto update(Long id, UpdateCaregiverRequestDto requestDto) {
-        log.info("REST request to update Caregiver : {}", id);
         return caregiverService.update(id, requestDto);
     }
 
+    @Override
+    public CaregiverResponseDto patch(Long id, JsonNode patch) {
+        return caregiverService.patch(id, patch);
+    }
+
     @Override
     public void delete(Long id) {
-        log.info("REST request to delete Caregiver : {}", id);
         caregiverService.delete(id);
     }
+
+    @Override
+    public ReassignmentJobResponseDto reassignPets(Long id, ReassignPetsRequestDto requestDto) {
+        log.info("REST request to reassign pets of Caregiver : {}", id);
+        return ReassignmentJobResponseDto.of(
+                petReassignmentService.reassign(id, requestDto.getTargetCaregiverId()));
+    }
+
+    @Override
+    public ReassignmentJobResponseDto getReassignment(Long id, UUID jobId) {
+        log.debug("REST request to get reassignment {} of Caregiver : {}", jobId, id);
+        return ReassignmentJobResponseDto.of(petReassignmentService.getJob(id, jobId));
+    }
 }
\ No newline at end of file
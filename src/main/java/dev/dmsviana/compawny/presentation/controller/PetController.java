@@ -1,50 +1,81 @@
 package dev.dmsviana.compawny.presentation.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.dmsviana.compawny.business.logging.ReadLogSampler;
 import dev.dmsviana.compawny.business.service.PetService;
+import dev.dmsviana.compawny.business.service.PetStatisticsService;
+import dev.dmsviana.compawny.business.service.recommendation.CaregiverRecommendationService;
 import dev.dmsviana.compawny.presentation.controller.contract.PetApiContract;
+import dev.dmsviana.compawny.presentation.dto.caregiver.CaregiverRecommendationResponseDto;
+import dev.dmsviana.compawny.presentation.dto.page.PageResponseDto;
 import dev.dmsviana.compawny.presentation.dto.pet.CreatePetRequestDto;
 import dev.dmsviana.compawny.presentation.dto.pet.PetResponseDto;
+import dev.dmsviana.compawny.presentation.dto.pet.PetStatisticsResponseDto;
 import dev.dmsviana.compawny.presentation.dto.pet.UpdatePetRequestDto;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequiredArgsConstructor
+@Observed(name = "compawny.controller")
 public class PetController implements PetApiContract {
 
     private final PetService petService;
+    private final PetStatisticsService petStatisticsService;
+    private final CaregiverRecommendationService caregiverRecommendationService;
+    private final ReadLogSampler readLogSampler;
 
     @Override
     public PetResponseDto create(CreatePetRequestDto request) {
-        log.info("Creating pet with registration: {}", request.getRegistrationNumber());
         return petService.create(request);
     }
 
     @Override
     public PetResponseDto getById(Long id) {
-        log.info("Finding pet with id: {}", id);
+        if (readLogSampler.sample()) {
+            log.info("Finding pet with id: {}", id);
+        }
         return petService.findById(id);
     }
 
     @Override
-    public Page<PetResponseDto> getAll(Pageable pageable) {
-        log.info("Listing all pets");
-        return petService.findAll(pageable);
+    public PageResponseDto<PetResponseDto> getAll(Pageable pageable) {
+        if (readLogSampler.sample()) {
+            log.info("Listing all pets: {}", pageable);
+        }
+        return PageResponseDto.of(petService.findAll(pageable));
+    }
+
+    @Override
+    public PetStatisticsResponseDto getStatistics() {
+        log.debug("Fetching pet statistics");
+        return petStatisticsService.getStatistics();
+    }
+
+    @Override
+    public List<CaregiverRecommendationResponseDto> getCaregiverRecommendations(Long id, int limit) {
+        log.debug("Ranking caregivers for pet {} (limit {})", id, limit);
+        return caregiverRecommendationService.recommend(id, limit);
     }
 
     @Override
     public PetResponseDto update(Long id, UpdatePetRequestDto request) {
-        log.info("REST request to update pet : {}", id);
         return petService.update(id, request);
     }
 
+    @Override
+    public PetResponseDto patch(Long id, JsonNode patch) {
+        return petService.patch(id, patch);
+    }
+
     @Override
     public void delete(Long id) {
-        log.info("Deleting pet with id: {}", id);
         petService.delete(id);
     }
 }
\ No newline at end of file
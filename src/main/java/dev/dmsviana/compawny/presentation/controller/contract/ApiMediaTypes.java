@@ -0,0 +1,9 @@
+package dev.dmsviana.compawny.presentation.controller.contract;
+
+public final class ApiMediaTypes {
+
+    public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    private ApiMediaTypes() {
+    }
+}
@@ -1,11 +1,16 @@
 package dev.dmsviana.compawny.presentation.controller.contract;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import dev.dmsviana.compawny.presentation.dto.caregiver.CaregiverResponseDto;
 import dev.dmsviana.compawny.presentation.dto.caregiver.CreateCaregiverRequestDto;
+import dev.dmsviana.compawny.presentation.dto.caregiver.ReassignPetsRequestDto;
+import dev.dmsviana.compawny.presentation.dto.caregiver.ReassignmentJobResponseDto;
 import dev.dmsviana.compawny.presentation.dto.caregiver.UpdateCaregiverRequestDto;
 import dev.dmsviana.compawny.presentation.dto.error.ErrorResponseDto;
+import dev.dmsviana.compawny.presentation.dto.page.PageResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
-import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,18 +18,28 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.UUID;
+
+import static dev.dmsviana.compawny.presentation.controller.contract.ApiMediaTypes.MERGE_PATCH_JSON_VALUE;
+import static dev.dmsviana.compawny.presentation.filter.IdempotencyFilter.IDEMPOTENCY_KEY_HEADER;
 import static org.springframework.http.HttpStatus.*;
 
 @Tag(name = "Caregivers", description = "API for managing caregivers")
 @RequestMapping("/api/v1/caregivers")
 public interface CaregiverApiContract {
 
-    @Operation(summary = "Create a new caregiver")
+    @Operation(
+            summary = "Create a new caregiver",
+            parameters = @Parameter(
+                    in = ParameterIn.HEADER,
+                    name = IDEMPOTENCY_KEY_HEADER,
+                    description = "Retries carrying the same key replay the first response instead of creating again"
+            )
+    )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "201",
@@ -38,7 +53,12 @@ public interface CaregiverApiContract {
             ),
             @ApiResponse(
                     responseCode = "409",
-                    description = "CPF or email already exists",
+                    description = "CPF or email already exists, or the Idempotency-Key is still being processed",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "Idempotency-Key already used with a different body",
                     content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))
             )
     })
@@ -53,14 +73,13 @@ public interface CaregiverApiContract {
                     description = "List of caregivers retrieved successfully",
                     content = @Content(
                             mediaType = "application/json",
-                            schema = @Schema(implementation = CaregiverResponseDto.class),
-                            array = @ArraySchema(schema = @Schema(implementation = CaregiverResponseDto.class))
+                            schema = @Schema(implementation = PageResponseDto.class)
                     )
             )
     })
     @GetMapping
     @ResponseStatus(OK)
-    Page<CaregiverResponseDto> getAll(
+    PageResponseDto<CaregiverResponseDto> getAll(
             @ParameterObject @PageableDefault(sort = "name") Pageable pageable
     );
 
@@ -106,6 +125,28 @@ public interface CaregiverApiContract {
             @RequestBody @Valid UpdateCaregiverRequestDto requestDto
     );
 
+    @Operation(summary = "Partially update caregiver with a JSON Merge Patch (RFC 7396)")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Caregiver updated successfully",
+                    content = @Content(schema = @Schema(implementation = CaregiverResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid patch document",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Caregiver not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))
+            )
+    })
+    @PatchMapping(value = "/{id}", consumes = MERGE_PATCH_JSON_VALUE)
+    @ResponseStatus(OK)
+    CaregiverResponseDto patch(@PathVariable Long id, @RequestBody JsonNode patch);
+
     @Operation(summary = "Delete caregiver")
     @ApiResponses(value = {
             @ApiResponse(
@@ -121,4 +162,46 @@ public interface CaregiverApiContract {
     @DeleteMapping("/{id}")
     @ResponseStatus(NO_CONTENT)
     void delete(@PathVariable Long id);
+
+    @Operation(summary = "Move all pets of a caregiver to another caregiver, or detach them")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Reassignment started",
+                    content = @Content(schema = @Schema(implementation = ReassignmentJobResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Caregiver not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Target caregiver has no capacity left",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))
+            )
+    })
+    @PostMapping("/{id}/reassignments")
+    @ResponseStatus(ACCEPTED)
+    ReassignmentJobResponseDto reassignPets(
+            @PathVariable Long id,
+            @RequestBody ReassignPetsRequestDto requestDto
+    );
+
+    @Operation(summary = "Get reassignment progress")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Reassignment found",
+                    content = @Content(schema = @Schema(implementation = ReassignmentJobResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Reassignment not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))
+            )
+    })
+    @GetMapping("/{id}/reassignments/{jobId}")
+    @ResponseStatus(OK)
+    ReassignmentJobResponseDto getReassignment(@PathVariable Long id, @PathVariable UUID jobId);
 }
\ No newline at end of file
@@ -1,11 +1,16 @@
 package dev.dmsviana.compawny.presentation.controller.contract;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.dmsviana.compawny.presentation.dto.caregiver.CaregiverRecommendationResponseDto;
 import dev.dmsviana.compawny.presentation.dto.error.ErrorResponseDto;
+import dev.dmsviana.compawny.presentation.dto.page.PageResponseDto;
 import dev.dmsviana.compawny.presentation.dto.pet.CreatePetRequestDto;
 import dev.dmsviana.compawny.presentation.dto.pet.PetResponseDto;
+import dev.dmsviana.compawny.presentation.dto.pet.PetStatisticsResponseDto;
 import dev.dmsviana.compawny.presentation.dto.pet.UpdatePetRequestDto;
 import io.swagger.v3.oas.annotations.Operation;
-import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,18 +18,28 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
+import static dev.dmsviana.compawny.presentation.controller.contract.ApiMediaTypes.MERGE_PATCH_JSON_VALUE;
+import static dev.dmsviana.compawny.presentation.filter.IdempotencyFilter.IDEMPOTENCY_KEY_HEADER;
 import static org.springframework.http.HttpStatus.*;
 
 @Tag(name = "Pets", description = "API for managing pets")
 @RequestMapping("/api/v1/pets")
 public interface PetApiContract {
 
-    @Operation(summary = "Create a new pet")
+    @Operation(
+            summary = "Create a new pet",
+            parameters = @Parameter(
+                    in = ParameterIn.HEADER,
+                    name = IDEMPOTENCY_KEY_HEADER,
+                    description = "Retries carrying the same key replay the first response instead of creating again"
+            )
+    )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "201",
@@ -38,7 +53,12 @@ public interface PetApiContract {
             ),
             @ApiResponse(
                     responseCode = "409",
-                    description = "Registration number already exists",
+                    description = "Registration number already exists, or the Idempotency-Key is still being processed",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "Idempotency-Key already used with a different body",
                     content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))
             )
     })
@@ -53,14 +73,25 @@ public interface PetApiContract {
                     description = "List of pets retrieved successfully",
                     content = @Content(
                             mediaType = "application/json",
-                            schema = @Schema(implementation = PetResponseDto.class),
-                            array = @ArraySchema(schema = @Schema(implementation = PetResponseDto.class))
+                            schema = @Schema(implementation = PageResponseDto.class)
                     )
             )
     })
     @GetMapping
     @ResponseStatus(OK)
-    Page<PetResponseDto> getAll(@ParameterObject @PageableDefault(sort = "name") Pageable pageable);
+    PageResponseDto<PetResponseDto> getAll(@ParameterObject @PageableDefault(sort = "name") Pageable pageable);
+
+    @Operation(summary = "Get pet statistics by type, breed and age bucket")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Statistics retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = PetStatisticsResponseDto.class))
+            )
+    })
+    @GetMapping("/statistics")
+    @ResponseStatus(OK)
+    PetStatisticsResponseDto getStatistics();
 
     @Operation(summary = "Get pet by ID")
     @ApiResponses(value = {
@@ -79,6 +110,25 @@ public interface PetApiContract {
     @ResponseStatus(OK)
     PetResponseDto getById(@PathVariable Long id);
 
+    @Operation(summary = "Rank available caregivers for a pet")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Recommendations retrieved successfully"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Pet not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))
+            )
+    })
+    @GetMapping("/{id}/caregiver-recommendations")
+    @ResponseStatus(OK)
+    List<CaregiverRecommendationResponseDto> getCaregiverRecommendations(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "5") int limit
+    );
+
     @Operation(summary = "Delete pet")
     @ApiResponses(value = {
             @ApiResponse(
@@ -116,4 +166,26 @@ public interface PetApiContract {
     @PutMapping("/{id}")
     @ResponseStatus(OK)
     PetResponseDto update(@PathVariable Long id, @Valid @RequestBody UpdatePetRequestDto request);
+
+    @Operation(summary = "Partially update pet with a JSON Merge Patch (RFC 7396)")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Pet updated successfully",
+                    content = @Content(schema = @Schema(implementation = PetResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid patch document",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Pet not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))
+            )
+    })
+    @PatchMapping(value = "/{id}", consumes = MERGE_PATCH_JSON_VALUE)
+    @ResponseStatus(OK)
+    PetResponseDto patch(@PathVariable Long id, @RequestBody JsonNode patch);
 }
\ No newline at end of file
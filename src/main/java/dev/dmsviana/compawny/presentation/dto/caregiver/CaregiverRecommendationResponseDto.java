@@ -0,0 +1,20 @@
+package dev.dmsviana.compawny.presentation.dto.caregiver;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CaregiverRecommendationResponseDto {
+
+    private Long caregiverId;
+    private String name;
+    private BigDecimal hourlyRate;
+    private int currentLoad;
+    private int typeExperience;
+    private double score;
+}
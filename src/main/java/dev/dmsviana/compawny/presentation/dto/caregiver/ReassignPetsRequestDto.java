@@ -0,0 +1,13 @@
+package dev.dmsviana.compawny.presentation.dto.caregiver;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReassignPetsRequestDto {
+
+    private Long targetCaregiverId;
+}
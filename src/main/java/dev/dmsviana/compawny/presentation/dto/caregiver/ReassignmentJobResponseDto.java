@@ -0,0 +1,42 @@
+package dev.dmsviana.compawny.presentation.dto.caregiver;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import dev.dmsviana.compawny.business.service.reassignment.ReassignmentJob;
+import dev.dmsviana.compawny.business.service.reassignment.ReassignmentStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReassignmentJobResponseDto {
+
+    private UUID id;
+    private Long sourceCaregiverId;
+    private Long targetCaregiverId;
+    private ReassignmentStatus status;
+    private long total;
+    private long processed;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+
+    public static ReassignmentJobResponseDto of(ReassignmentJob job) {
+        return ReassignmentJobResponseDto.builder()
+                .id(job.getId())
+                .sourceCaregiverId(job.getSourceCaregiverId())
+                .targetCaregiverId(job.getTargetCaregiverId())
+                .status(job.getStatus())
+                .total(job.getTotal())
+                .processed(job.getProcessed())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .error(job.getError())
+                .build();
+    }
+}
@@ -15,6 +15,7 @@ import java.util.List;
 public interface CaregiverMapper {
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "tenantId", ignore = true)
     @Mapping(target = "deleted", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
@@ -23,5 +24,7 @@ public interface CaregiverMapper {
     CaregiverResponseDto toDto(Caregiver entity);
     List<CaregiverResponseDto> toDtoList(List<Caregiver> entities);
 
+    UpdateCaregiverRequestDto toUpdateDto(Caregiver entity);
+
     void updateEntityFromDto(UpdateCaregiverRequestDto dto, @MappingTarget Caregiver entity);
 }
\ No newline at end of file
@@ -25,4 +25,6 @@ public class ErrorResponseDto {
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
     private LocalDateTime timestamp;
 
+    private String traceId;
+
 }
@@ -0,0 +1,34 @@
+package dev.dmsviana.compawny.presentation.dto.page;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PageResponseDto<T> {
+
+    private List<T> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    private Integer nextPage;
+
+    public static <T> PageResponseDto<T> of(Page<T> page) {
+        return PageResponseDto.<T>builder()
+                .content(page.getContent())
+                .page(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .nextPage(page.hasNext() ? page.getNumber() + 1 : null)
+                .build();
+    }
+}
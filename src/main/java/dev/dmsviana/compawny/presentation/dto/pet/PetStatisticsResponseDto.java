@@ -0,0 +1,22 @@
+package dev.dmsviana.compawny.presentation.dto.pet;
+
+import dev.dmsviana.compawny.model.entity.types.AgeBucket;
+import dev.dmsviana.compawny.model.entity.types.PetType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PetStatisticsResponseDto {
+
+    private long total;
+    private Map<PetType, Long> byType;
+    private Map<String, Long> byBreed;
+    private Map<AgeBucket, Long> byAgeBucket;
+    private LocalDateTime reconciledAt;
+}
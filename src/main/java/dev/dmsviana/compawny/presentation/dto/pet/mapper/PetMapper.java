@@ -16,6 +16,7 @@ import java.util.List;
 public interface PetMapper {
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "tenantId", ignore = true)
     @Mapping(target = "deleted", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
@@ -27,6 +28,9 @@ public interface PetMapper {
 
     List<PetResponseDto> toDtoList(List<Pet> entities);
 
+    @Mapping(target = "caregiverId", source = "caregiver.id")
+    UpdatePetRequestDto toUpdateDto(Pet entity);
+
     void updateEntityFromDto(UpdatePetRequestDto dto, @MappingTarget Pet entity);
 
     default Caregiver mapCaregiver(Long id) {
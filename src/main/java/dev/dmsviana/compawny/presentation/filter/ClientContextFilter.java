@@ -0,0 +1,47 @@
+package dev.dmsviana.compawny.presentation.filter;
+
+import dev.dmsviana.compawny.business.context.ClientContext;
+import dev.dmsviana.compawny.business.ratelimit.RateLimitService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class ClientContextFilter extends OncePerRequestFilter {
+
+    public static final String API_KEY_HEADER = "X-API-Key";
+
+    private final RateLimitService rateLimitService;
+
+    /**
+     * Only identities the server can vouch for: a configured API key, else the remote address (taken from
+     * {@code X-Forwarded-For} only when a trusted proxy sent it). Rate limiting and read-your-writes routing
+     * both key on this, so a caller cannot pick another client's bucket or pin its reads to the primary.
+     */
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        String apiKey = request.getHeader(API_KEY_HEADER);
+        ClientContext.setClientId(StringUtils.hasText(apiKey) && rateLimitService.isKnownApiKey(apiKey)
+                ? "key:" + apiKey
+                : "addr:" + request.getRemoteAddr());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ClientContext.clear();
+        }
+    }
+}
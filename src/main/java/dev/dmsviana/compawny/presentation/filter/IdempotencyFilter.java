@@ -0,0 +1,224 @@
+package dev.dmsviana.compawny.presentation.filter;
+
+import dev.dmsviana.compawny.business.config.properties.IdempotencyProperties;
+import dev.dmsviana.compawny.business.context.TenantContext;
+import dev.dmsviana.compawny.business.idempotency.IdempotencyRecord;
+import dev.dmsviana.compawny.business.idempotency.IdempotencyStore;
+import dev.dmsviana.compawny.business.idempotency.StoredResponse;
+import dev.dmsviana.compawny.business.idempotency.exception.IdempotencyException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private static final IdempotencyException INVALID_KEY = new IdempotencyException(
+            "idempotency.invalidKey", HttpStatus.BAD_REQUEST, "Idempotency-Key must have 1 to 255 characters");
+    private static final IdempotencyException KEY_REUSED = new IdempotencyException(
+            "idempotency.keyReused", HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency-Key was already used with a different body");
+    private static final IdempotencyException BODY_TOO_LARGE = new IdempotencyException(
+            "idempotency.bodyTooLarge", HttpStatus.PAYLOAD_TOO_LARGE, "Request body is too large to be fingerprinted");
+    private static final IdempotencyException IN_PROGRESS = new IdempotencyException(
+            "idempotency.inProgress", HttpStatus.CONFLICT, "A request with this Idempotency-Key is still being processed");
+
+    private final IdempotencyStore store;
+    private final IdempotencyProperties properties;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    public IdempotencyFilter(
+            IdempotencyStore store,
+            IdempotencyProperties properties,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver) {
+        this.store = store;
+        this.properties = properties;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !HttpMethod.POST.matches(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || !properties.getPaths().contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            reject(request, response, INVALID_KEY);
+            return;
+        }
+
+        long maxRequestSize = properties.getMaxRequestSize().toBytes();
+        if (request.getContentLengthLong() > maxRequestSize) {
+            reject(request, response, BODY_TOO_LARGE);
+            return;
+        }
+        // Read at most one byte past the limit, so a missing or lying Content-Length cannot exhaust the heap.
+        byte[] body = request.getInputStream().readNBytes((int) Math.min(Integer.MAX_VALUE - 8, maxRequestSize + 1));
+        if (body.length > maxRequestSize) {
+            reject(request, response, BODY_TOO_LARGE);
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request, body);
+        String key = sha256((TenantContext.currentTenant() + ' ' + request.getMethod() + ' ' + request.getRequestURI()
+                + ' ' + idempotencyKey)
+                .getBytes(StandardCharsets.UTF_8));
+        String fingerprint = sha256(cachedRequest.body);
+
+        String claimToken = UUID.randomUUID().toString();
+        Optional<IdempotencyRecord> existing = store.claim(key, fingerprint, claimToken);
+        if (existing.isPresent()) {
+            IdempotencyRecord record = existing.get();
+            if (!record.fingerprint().equals(fingerprint)) {
+                reject(request, response, KEY_REUSED);
+            } else if (!record.isCompleted()) {
+                reject(request, response, IN_PROGRESS);
+            } else {
+                replay(record.response(), response);
+            }
+            return;
+        }
+
+        ContentCachingResponseWrapper cachedResponse = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(cachedRequest, cachedResponse);
+            if (isReplayable(cachedResponse)) {
+                store.complete(key, claimToken, new StoredResponse(cachedResponse.getStatus(), cachedResponse.getContentType(),
+                        cachedResponse.getContentAsByteArray()));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                store.release(key, claimToken);
+            }
+            cachedResponse.copyBodyToResponse();
+        }
+    }
+
+    // Server errors and throttling are transient: the retry should run again rather than see the same failure.
+    private boolean isReplayable(ContentCachingResponseWrapper response) {
+        int status = response.getStatus();
+        return status < 500
+                && status != HttpStatus.TOO_MANY_REQUESTS.value()
+                && response.getContentSize() <= properties.getMaxResponseSize().toBytes();
+    }
+
+    private void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        log.debug("Replaying stored response with status {}", stored.status());
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, IdempotencyException exception) {
+        handlerExceptionResolver.resolveException(request, response, null, exception);
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // The body is needed for the fingerprint before the controller reads it.
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // The whole body is already in memory, so the listener is told at once that everything is readable.
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
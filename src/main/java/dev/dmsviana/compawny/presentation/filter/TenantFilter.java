@@ -0,0 +1,66 @@
+package dev.dmsviana.compawny.presentation.filter;
+
+import dev.dmsviana.compawny.business.config.properties.TenancyProperties;
+import dev.dmsviana.compawny.business.context.TenantContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class TenantFilter extends OncePerRequestFilter {
+
+    public static final String TENANT_ID_HEADER = "X-Tenant-Id";
+    public static final String MDC_KEY = "tenantId";
+
+    private final TenancyProperties properties;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    public TenantFilter(
+            TenancyProperties properties,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver) {
+        this.properties = properties;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+    }
+
+    // Actuator, API docs and the H2 console are not tenant data.
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        String tenantId = request.getHeader(TENANT_ID_HEADER);
+        if (tenantId == null && !properties.isRequireTenant()) {
+            tenantId = TenantContext.DEFAULT_TENANT;
+        }
+        if (!TenantContext.isValid(tenantId)) {
+            handlerExceptionResolver.resolveException(request, response, null,
+                    new IllegalArgumentException("tenant.invalid"));
+            return;
+        }
+
+        TenantContext.setTenantId(tenantId);
+        MDC.put(MDC_KEY, tenantId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+            TenantContext.clear();
+        }
+    }
+}
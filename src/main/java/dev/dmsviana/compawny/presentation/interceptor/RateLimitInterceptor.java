@@ -0,0 +1,32 @@
+package dev.dmsviana.compawny.presentation.interceptor;
+
+import dev.dmsviana.compawny.business.context.ClientContext;
+import dev.dmsviana.compawny.business.ratelimit.RateLimitService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String STARTED_AT_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".startedAt";
+
+    private final RateLimitService rateLimitService;
+
+    // Keyed on the identity ClientContextFilter resolved from a configured API key or the remote address.
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        rateLimitService.checkRate(ClientContext.getClientId());
+        rateLimitService.acquireConcurrencyPermit();
+        request.setAttribute(STARTED_AT_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(STARTED_AT_ATTRIBUTE) instanceof Long startedAt) {
+            rateLimitService.releaseConcurrencyPermit(System.nanoTime() - startedAt);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+CREATE TABLE caregivers
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(100)          NOT NULL,
+    cpf         VARCHAR(11)           NOT NULL,
+    email       VARCHAR(100)          NOT NULL,
+    phone       VARCHAR(15)           NOT NULL,
+    description VARCHAR(500),
+    hourly_rate NUMERIC(10, 2)        NOT NULL,
+    available   BOOLEAN DEFAULT TRUE  NOT NULL,
+    deleted     BOOLEAN DEFAULT FALSE NOT NULL,
+    created_at  TIMESTAMP(6)          NOT NULL,
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT uk_caregiver_cpf UNIQUE (cpf),
+    CONSTRAINT uk_caregiver_email UNIQUE (email)
+);
+
+CREATE INDEX idx_caregiver_cpf ON caregivers (cpf);
+CREATE INDEX idx_caregiver_email ON caregivers (email);
+CREATE INDEX idx_caregiver_available ON caregivers (available);
+
+CREATE TABLE pets
+(
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name                VARCHAR(100)          NOT NULL,
+    registration_number VARCHAR(255)          NOT NULL,
+    type                VARCHAR(20)           NOT NULL,
+    breed               VARCHAR(50)           NOT NULL,
+    birth_date          DATE                  NOT NULL,
+    caregiver_id        BIGINT,
+    deleted             BOOLEAN DEFAULT FALSE NOT NULL,
+    created_at          TIMESTAMP(6)          NOT NULL,
+    updated_at          TIMESTAMP(6),
+    CONSTRAINT uk_pet_registration_number UNIQUE (registration_number),
+    CONSTRAINT fk_pet_caregiver FOREIGN KEY (caregiver_id) REFERENCES caregivers (id)
+);
+
+CREATE INDEX idx_pet_registration ON pets (registration_number);
+CREATE INDEX idx_pet_caregiver ON pets (caregiver_id);
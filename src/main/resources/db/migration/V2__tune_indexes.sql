@@ -0,0 +1,12 @@
+-- Unique constraints already carry an index; the plain ones only slow down writes.
+DROP INDEX IF EXISTS idx_caregiver_cpf;
+DROP INDEX IF EXISTS idx_caregiver_email;
+DROP INDEX IF EXISTS idx_pet_registration;
+
+DROP INDEX IF EXISTS idx_caregiver_available;
+DROP INDEX IF EXISTS idx_pet_caregiver;
+
+CREATE INDEX idx_caregiver_available_deleted ON caregivers (available, deleted);
+CREATE INDEX idx_caregiver_updated_at ON caregivers (updated_at);
+CREATE INDEX idx_pet_caregiver_deleted ON pets (caregiver_id, deleted);
+CREATE INDEX idx_pet_updated_at ON pets (updated_at);
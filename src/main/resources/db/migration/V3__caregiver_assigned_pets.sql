@@ -0,0 +1,5 @@
+-- Counter kept by conditional UPDATEs so capacity checks only lock the caregiver row being assigned.
+ALTER TABLE caregivers ADD COLUMN assigned_pets INTEGER DEFAULT 0 NOT NULL;
+
+UPDATE caregivers
+SET assigned_pets = (SELECT COUNT(*) FROM pets p WHERE p.caregiver_id = caregivers.id AND p.deleted = false);
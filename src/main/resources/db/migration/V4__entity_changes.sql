@@ -0,0 +1,11 @@
+-- Change feed polled by every node to evict its local caches after writes made elsewhere.
+CREATE TABLE entity_changes
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    entity_name VARCHAR(255) NOT NULL,
+    entity_id   BIGINT       NOT NULL,
+    origin      VARCHAR(36)  NOT NULL,
+    changed_at  TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_entity_changes_changed_at ON entity_changes (changed_at);
@@ -0,0 +1,14 @@
+-- First response to each Idempotency-Key, replayed to retries until it expires.
+-- Keys and fingerprints are SHA-256 hex digests, so rows stay fixed-width regardless of client input.
+CREATE TABLE idempotency_keys
+(
+    idempotency_key VARCHAR(64)  PRIMARY KEY,
+    fingerprint     VARCHAR(64)  NOT NULL,
+    response_status INTEGER,
+    content_type    VARCHAR(255),
+    response_body   BYTEA,
+    locked_until    TIMESTAMP(6) NOT NULL,
+    expires_at      TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
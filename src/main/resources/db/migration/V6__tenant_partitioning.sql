@@ -0,0 +1,22 @@
+-- One deployment hosts many clinics. Hibernate adds tenant_id to every query through @TenantId,
+-- so unique keys and hot-path indexes lead with it and each clinic only touches its own slice.
+ALTER TABLE caregivers ADD COLUMN tenant_id VARCHAR(64) DEFAULT 'default' NOT NULL;
+ALTER TABLE pets ADD COLUMN tenant_id VARCHAR(64) DEFAULT 'default' NOT NULL;
+
+ALTER TABLE caregivers DROP CONSTRAINT uk_caregiver_cpf;
+ALTER TABLE caregivers DROP CONSTRAINT uk_caregiver_email;
+ALTER TABLE pets DROP CONSTRAINT uk_pet_registration_number;
+
+ALTER TABLE caregivers ADD CONSTRAINT uk_caregiver_tenant_cpf UNIQUE (tenant_id, cpf);
+ALTER TABLE caregivers ADD CONSTRAINT uk_caregiver_tenant_email UNIQUE (tenant_id, email);
+ALTER TABLE pets ADD CONSTRAINT uk_pet_tenant_registration_number UNIQUE (tenant_id, registration_number);
+
+DROP INDEX IF EXISTS idx_caregiver_available_deleted;
+DROP INDEX IF EXISTS idx_caregiver_updated_at;
+DROP INDEX IF EXISTS idx_pet_caregiver_deleted;
+DROP INDEX IF EXISTS idx_pet_updated_at;
+
+CREATE INDEX idx_caregiver_tenant_available_deleted ON caregivers (tenant_id, available, deleted);
+CREATE INDEX idx_caregiver_tenant_updated_at ON caregivers (tenant_id, updated_at);
+CREATE INDEX idx_pet_tenant_caregiver_deleted ON pets (tenant_id, caregiver_id, deleted);
+CREATE INDEX idx_pet_tenant_updated_at ON pets (tenant_id, updated_at);
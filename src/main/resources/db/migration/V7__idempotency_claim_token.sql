@@ -0,0 +1,3 @@
+-- Identifies the request that holds a key, so a node that lost its key to a take-over cannot release
+-- or complete the new owner's claim.
+ALTER TABLE idempotency_keys ADD COLUMN claim_token VARCHAR(36);
@@ -0,0 +1,215 @@
+package dev.dmsviana.compawny.smoke;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class NativeApiSmokeTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+
+    private static Process process;
+    private static String baseUrl;
+    private static long caregiverId;
+    private static long otherCaregiverId;
+    private static long petId;
+
+    @BeforeAll
+    static void startBinary() throws Exception {
+        String binary = System.getProperty("compawny.smoke.binary");
+        Assumptions.assumeTrue(binary != null, "compawny.smoke.binary is not set");
+
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        baseUrl = "http://localhost:" + port;
+
+        ProcessBuilder builder = new ProcessBuilder(binary, "--server.port=" + port, "--spring.profiles.active=prod")
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        builder.environment().putAll(Map.of(
+                "COMPAWNY_DB_URL", "jdbc:h2:mem:smoke;DB_CLOSE_DELAY=-1",
+                "COMPAWNY_DB_USERNAME", "sa",
+                "COMPAWNY_DB_PASSWORD", ""
+        ));
+
+        long started = System.nanoTime();
+        process = builder.start();
+        awaitFirstRequest(Duration.ofSeconds(30));
+        long startupMillis = Duration.ofNanos(System.nanoTime() - started).toMillis();
+
+        System.out.printf("Native startup: %d ms to first request, RSS %s%n", startupMillis, residentSetSize());
+    }
+
+    @AfterAll
+    static void stopBinary() throws InterruptedException {
+        if (process != null) {
+            System.out.printf("Native RSS after smoke tests: %s%n", residentSetSize());
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should create caregivers")
+    void shouldCreateCaregivers() throws Exception {
+        caregiverId = create("/api/v1/caregivers", caregiver("John", "52998224725", "john@example.com"));
+        otherCaregiverId = create("/api/v1/caregivers", caregiver("Mary", "11144477735", "mary@example.com"));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should read, list and update caregivers")
+    void shouldReadListAndUpdateCaregivers() throws Exception {
+        assertThat(send("GET", "/api/v1/caregivers/" + caregiverId, null).statusCode()).isEqualTo(200);
+        assertThat(json(send("GET", "/api/v1/caregivers?size=10", null)).get("totalElements").asLong()).isEqualTo(2);
+
+        Map<String, Object> update = Map.of("phone", "(11) 88888-8888", "hourlyRate", 60);
+        assertThat(send("PUT", "/api/v1/caregivers/" + caregiverId, update).statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should create, read, list and update pets")
+    void shouldCreateReadListAndUpdatePets() throws Exception {
+        petId = create("/api/v1/pets", Map.of(
+                "name", "Max",
+                "registrationNumber", "SMOKE-1",
+                "type", "DOG",
+                "breed", "Labrador",
+                "birthDate", "2022-01-10",
+                "caregiverId", caregiverId
+        ));
+
+        assertThat(send("GET", "/api/v1/pets/" + petId, null).statusCode()).isEqualTo(200);
+        assertThat(json(send("GET", "/api/v1/pets?size=10", null)).get("content")).hasSize(1);
+
+        Map<String, Object> update = Map.of("name", "Maximus", "breed", "Labrador", "type", "DOG", "caregiverId", caregiverId);
+        assertThat(json(send("PUT", "/api/v1/pets/" + petId, update)).get("name").asText()).isEqualTo("Maximus");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should serve statistics and recommendations")
+    void shouldServeStatisticsAndRecommendations() throws Exception {
+        assertThat(send("GET", "/api/v1/pets/statistics", null).statusCode()).isEqualTo(200);
+        assertThat(send("GET", "/api/v1/pets/" + petId + "/caregiver-recommendations", null).statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Should reassign pets and report progress")
+    void shouldReassignPets() throws Exception {
+        // The chunked update binds the target through getReferenceById, which needs the build-time enhanced entity.
+        HttpResponse<String> started = send("POST", "/api/v1/caregivers/" + caregiverId + "/reassignments",
+                Map.of("targetCaregiverId", otherCaregiverId));
+        assertThat(started.statusCode()).isEqualTo(202);
+
+        String jobId = json(started).get("id").asText();
+        JsonNode job = awaitReassignment(caregiverId, jobId, Duration.ofSeconds(10));
+        assertThat(job.get("status").asText()).as(job.toString()).isEqualTo("COMPLETED");
+        assertThat(job.get("processed").asLong()).isEqualTo(1);
+
+        JsonNode pet = json(send("GET", "/api/v1/pets/" + petId, null));
+        assertThat(pet.get("caregiver").get("id").asLong()).isEqualTo(otherCaregiverId);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Should map errors and delete resources")
+    void shouldMapErrorsAndDeleteResources() throws Exception {
+        assertThat(send("GET", "/api/v1/pets/999999", null).statusCode()).isEqualTo(404);
+        assertThat(send("DELETE", "/api/v1/pets/" + petId, null).statusCode()).isEqualTo(204);
+        assertThat(send("DELETE", "/api/v1/caregivers/" + caregiverId, null).statusCode()).isEqualTo(204);
+        assertThat(send("GET", "/actuator/health", null).statusCode()).isEqualTo(200);
+    }
+
+    private static Map<String, Object> caregiver(String name, String cpf, String email) {
+        return Map.of(
+                "name", name,
+                "cpf", cpf,
+                "email", email,
+                "phone", "(11) 99999-9999",
+                "hourlyRate", 50
+        );
+    }
+
+    private static long create(String path, Map<String, Object> body) throws Exception {
+        HttpResponse<String> response = send("POST", path, body);
+        assertThat(response.statusCode()).as(response.body()).isEqualTo(201);
+        return json(response).get("id").asLong();
+    }
+
+    private static HttpResponse<String> send(String method, String path, Object body) throws Exception {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(body));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .method(method, publisher)
+                .build();
+        return CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static JsonNode json(HttpResponse<String> response) throws IOException {
+        return MAPPER.readTree(response.body());
+    }
+
+    private static JsonNode awaitReassignment(long caregiver, String jobId, Duration timeout) throws Exception {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        JsonNode job = json(send("GET", "/api/v1/caregivers/" + caregiver + "/reassignments/" + jobId, null));
+        while (System.nanoTime() < deadline && "RUNNING".equals(job.get("status").asText())) {
+            Thread.sleep(20);
+            job = json(send("GET", "/api/v1/caregivers/" + caregiver + "/reassignments/" + jobId, null));
+        }
+        return job;
+    }
+
+    private static void awaitFirstRequest(Duration timeout) throws Exception {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline && process.isAlive()) {
+            try {
+                if (send("GET", "/api/v1/pets?size=1", null).statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException e) {
+                Thread.sleep(5);
+            }
+        }
+        throw new IllegalStateException("Native binary did not answer within " + timeout);
+    }
+
+    private static String residentSetSize() {
+        Path status = Path.of("/proc", String.valueOf(process.pid()), "status");
+        try {
+            return Files.readAllLines(status).stream()
+                    .filter(line -> line.startsWith("VmRSS:"))
+                    .map(line -> line.substring("VmRSS:".length()).trim())
+                    .findFirst()
+                    .orElse("unknown");
+        } catch (IOException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package dev.dmsviana.compawny.bloom;
+
+import dev.dmsviana.compawny.business.bloom.BloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("Should always report inserted values as possibly present")
+    void shouldReportInsertedValues() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("PET" + i));
+
+        assertThat(IntStream.range(0, 10_000).allMatch(i -> filter.mightContain("PET" + i))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep false positives close to the configured rate")
+    void shouldKeepFalsePositivesCloseToConfiguredRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("PET" + i));
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("OTHER" + i))
+                .count();
+
+        assertThat(falsePositives).isLessThan(3_000);
+    }
+}
@@ -0,0 +1,149 @@
+package dev.dmsviana.compawny.cache;
+
+import dev.dmsviana.compawny.business.cache.CacheInvalidationBus;
+import dev.dmsviana.compawny.business.cache.JdbcPollingInvalidationTransport;
+import dev.dmsviana.compawny.business.cache.LoopbackInvalidationTransport;
+import dev.dmsviana.compawny.business.config.properties.CacheInvalidationProperties;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class CacheInvalidationBusTest {
+
+    private static final String CAREGIVER = "dev.dmsviana.compawny.model.entity.Caregiver";
+
+    private final Cache cacheA = mock(Cache.class);
+    private final Cache cacheB = mock(Cache.class);
+
+    @Nested
+    @DisplayName("Loopback Transport")
+    class LoopbackTransport {
+
+        private final LoopbackInvalidationTransport transport = new LoopbackInvalidationTransport();
+
+        @Test
+        @DisplayName("Should evict the changed entity on every other node")
+        void shouldEvictOnOtherNodes() {
+            CacheInvalidationBus nodeA = new CacheInvalidationBus(transport, entityManagerFactory(cacheA));
+            new CacheInvalidationBus(transport, entityManagerFactory(cacheB));
+
+            nodeA.publish(CAREGIVER, 7L);
+
+            verify(cacheB).evictEntityData(CAREGIVER, 7L);
+            verify(cacheB).evictQueryRegions();
+        }
+
+        @Test
+        @DisplayName("Should leave the publishing node's cache to Hibernate")
+        void shouldIgnoreOwnChanges() {
+            CacheInvalidationBus nodeA = new CacheInvalidationBus(transport, entityManagerFactory(cacheA));
+
+            nodeA.publish(CAREGIVER, 7L);
+
+            verifyNoInteractions(cacheA);
+        }
+    }
+
+    @Nested
+    @DisplayName("Database Polling Transport")
+    class DatabasePollingTransport {
+
+        private EmbeddedDatabase database;
+        private JdbcPollingInvalidationTransport transportA;
+        private JdbcPollingInvalidationTransport transportB;
+
+        @BeforeEach
+        void setUp() {
+            database = new EmbeddedDatabaseBuilder()
+                    .setType(EmbeddedDatabaseType.H2)
+                    .generateUniqueName(true)
+                    .addScript("db/migration/V4__entity_changes.sql")
+                    .build();
+            transportA = transport();
+            transportB = transport();
+        }
+
+        @AfterEach
+        void tearDown() {
+            database.shutdown();
+        }
+
+        @Test
+        @DisplayName("Should deliver changes written by one node to the other on the next poll")
+        void shouldDeliverChangesOnNextPoll() {
+            CacheInvalidationBus nodeA = new CacheInvalidationBus(transportA, entityManagerFactory(cacheA));
+            new CacheInvalidationBus(transportB, entityManagerFactory(cacheB));
+            transportA.poll();
+            transportB.poll();
+
+            nodeA.publish(CAREGIVER, 7L);
+            transportA.flush();
+            transportA.poll();
+            transportB.poll();
+
+            verify(cacheB).evictEntityData(CAREGIVER, 7L);
+            verify(cacheA, never()).evictEntityData(CAREGIVER, 7L);
+        }
+
+        @Test
+        @DisplayName("Should apply each change once even when re-read inside the lookback window")
+        void shouldApplyEachChangeOnce() {
+            CacheInvalidationBus nodeA = new CacheInvalidationBus(transportA, entityManagerFactory(cacheA));
+            new CacheInvalidationBus(transportB, entityManagerFactory(cacheB));
+            transportB.poll();
+
+            nodeA.publish(CAREGIVER, 7L);
+            transportA.flush();
+            transportB.poll();
+            transportB.poll();
+
+            verify(cacheB).evictEntityData(CAREGIVER, 7L);
+        }
+
+        @Test
+        @DisplayName("Should only write changes off the publishing thread when the queue is flushed")
+        void shouldWriteChangesOnFlush() {
+            CacheInvalidationBus nodeA = new CacheInvalidationBus(transportA, entityManagerFactory(cacheA));
+            new CacheInvalidationBus(transportB, entityManagerFactory(cacheB));
+            transportB.poll();
+
+            nodeA.publish(CAREGIVER, 7L);
+            transportB.poll();
+            verify(cacheB, never()).evictEntityData(CAREGIVER, 7L);
+
+            transportA.flush();
+            transportB.poll();
+            verify(cacheB).evictEntityData(CAREGIVER, 7L);
+        }
+
+        private JdbcPollingInvalidationTransport transport() {
+            return new JdbcPollingInvalidationTransport(
+                    new JdbcTemplate(database),
+                    new DataSourceTransactionManager(database),
+                    new CacheInvalidationProperties()
+            );
+        }
+    }
+
+    private static EntityManagerFactory entityManagerFactory(Cache cache) {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+        when(cache.unwrap(Cache.class)).thenReturn(cache);
+        return entityManagerFactory;
+    }
+}
@@ -0,0 +1,95 @@
+package dev.dmsviana.compawny.config;
+
+import dev.dmsviana.compawny.business.config.datasource.DataSourceType;
+import dev.dmsviana.compawny.business.config.datasource.ReadYourWritesTracker;
+import dev.dmsviana.compawny.business.config.datasource.ReplicaRoutingDataSource;
+import dev.dmsviana.compawny.business.context.ClientContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ReplicaRoutingDataSource(new ReadYourWritesTracker(Duration.ofMinutes(1)));
+        dataSource.setTargetDataSources(Map.<Object, Object>of(
+                DataSourceType.PRIMARY, new DriverManagerDataSource("jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1", "sa", ""),
+                DataSourceType.REPLICA, new DriverManagerDataSource("jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1", "sa", "")
+        ));
+        dataSource.afterPropertiesSet();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ClientContext.clear();
+    }
+
+    @Test
+    @DisplayName("Should route read-only transactions to the replica")
+    void shouldRouteReadOnlyTransactionsToReplica() throws SQLException {
+        ClientContext.setClientId("addr:10.0.0.1");
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(connectionUrl()).contains("routing-replica");
+    }
+
+    @Test
+    @DisplayName("Should route write transactions to the primary")
+    void shouldRouteWriteTransactionsToPrimary() throws SQLException {
+        ClientContext.setClientId("addr:10.0.0.1");
+
+        assertThat(connectionUrl()).contains("routing-primary");
+    }
+
+    @Test
+    @DisplayName("Should read from primary right after the same client committed a write")
+    void shouldReadFromPrimaryAfterSameClientWrote() throws SQLException {
+        ClientContext.setClientId("addr:10.0.0.1");
+        connectionUrl();
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(connectionUrl()).contains("routing-primary");
+
+        ClientContext.setClientId("addr:10.0.0.2");
+        assertThat(connectionUrl()).contains("routing-replica");
+    }
+
+    @Test
+    @DisplayName("Should keep reading from the replica when the write rolled back")
+    void shouldIgnoreRolledBackWrites() throws SQLException {
+        ClientContext.setClientId("addr:10.0.0.1");
+        connectionUrl();
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(connectionUrl()).contains("routing-replica");
+    }
+
+    private String connectionUrl() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getURL();
+        }
+    }
+}
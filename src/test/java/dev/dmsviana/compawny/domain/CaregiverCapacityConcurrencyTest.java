@@ -0,0 +1,118 @@
+package dev.dmsviana.compawny.domain;
+
+import dev.dmsviana.compawny.business.service.PetService;
+import dev.dmsviana.compawny.model.entity.Caregiver;
+import dev.dmsviana.compawny.model.entity.types.PetType;
+import dev.dmsviana.compawny.model.repository.CaregiverRepository;
+import dev.dmsviana.compawny.model.repository.exception.CaregiverCapacityExceededException;
+import dev.dmsviana.compawny.presentation.dto.pet.CreatePetRequestDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "compawny.caregiver.max-pets=3")
+@ActiveProfiles("test")
+class CaregiverCapacityConcurrencyTest {
+
+    private static final int ATTEMPTS = 32;
+
+    @Autowired
+    private PetService petService;
+
+    @Autowired
+    private CaregiverRepository caregiverRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM pets");
+        jdbcTemplate.update("DELETE FROM caregivers");
+    }
+
+    @Test
+    @DisplayName("Should never assign more pets than the limit under concurrent creates")
+    void shouldNeverExceedLimitUnderConcurrentCreates() throws Exception {
+        Caregiver full = caregiverRepository.save(caregiver("52998224725", "full@example.com"));
+        Caregiver other = caregiverRepository.save(caregiver("11144477735", "other@example.com"));
+
+        AtomicInteger rejected = new AtomicInteger();
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < ATTEMPTS; i++) {
+            Long caregiverId = i % 2 == 0 ? full.getId() : other.getId();
+            String registration = "CAP-" + i;
+            tasks.add(() -> {
+                try {
+                    petService.create(pet(registration, caregiverId));
+                    return true;
+                } catch (CaregiverCapacityExceededException e) {
+                    rejected.incrementAndGet();
+                    return false;
+                }
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (Future<Boolean> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(assignedPets(full.getId())).isEqualTo(3);
+        assertThat(assignedPets(other.getId())).isEqualTo(3);
+        assertThat(countPets(full.getId())).isEqualTo(3);
+        assertThat(countPets(other.getId())).isEqualTo(3);
+        assertThat(rejected.get()).isEqualTo(ATTEMPTS - 6);
+    }
+
+    private int assignedPets(Long caregiverId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT assigned_pets FROM caregivers WHERE id = ?", Integer.class, caregiverId);
+    }
+
+    private int countPets(Long caregiverId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pets WHERE caregiver_id = ?", Integer.class, caregiverId);
+    }
+
+    private static Caregiver caregiver(String cpf, String email) {
+        return Caregiver.builder()
+                .name("John")
+                .cpf(cpf)
+                .email(email)
+                .phone("(11) 99999-9999")
+                .hourlyRate(BigDecimal.valueOf(50))
+                .build();
+    }
+
+    private static CreatePetRequestDto pet(String registration, Long caregiverId) {
+        return CreatePetRequestDto.builder()
+                .name("Max")
+                .registrationNumber(registration)
+                .type(PetType.DOG)
+                .breed("Labrador")
+                .birthDate(LocalDate.now().minusYears(2))
+                .caregiverId(caregiverId)
+                .build();
+    }
+}
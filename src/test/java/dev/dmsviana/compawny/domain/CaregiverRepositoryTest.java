@@ -2,11 +2,14 @@ package dev.dmsviana.compawny.domain;
 
 import dev.dmsviana.compawny.model.entity.Caregiver;
 import dev.dmsviana.compawny.model.repository.CaregiverRepository;
+import dev.dmsviana.compawny.support.QueryCountTestConfig;
+import dev.dmsviana.compawny.support.SqlStatements;
 import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -18,6 +21,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @ActiveProfiles("test")
+@Import(QueryCountTestConfig.class)
 class CaregiverRepositoryTest {
 
     @Autowired
@@ -134,6 +138,38 @@ class CaregiverRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Query Counts")
+    class QueryCounts {
+
+        @Test
+        @DisplayName("Should reserve a slot with a single conditional update")
+        void shouldReserveSlotWithSingleConditionalUpdate() {
+            Caregiver savedCaregiver = entityManager.persistAndFlush(caregiver);
+            SqlStatements.reset();
+
+            int updated = caregiverRepository.reserveSlots(savedCaregiver.getId(), 1, 10);
+
+            assertThat(updated).isEqualTo(1);
+            SqlStatements.assertUpdateCount(1);
+            SqlStatements.assertTotalCount(1);
+        }
+
+        @Test
+        @DisplayName("Should answer existence checks without loading the entity")
+        void shouldAnswerExistenceChecksWithoutLoadingEntity() {
+            entityManager.persistAndFlush(caregiver);
+            entityManager.clear();
+            SqlStatements.reset();
+
+            caregiverRepository.existsByCpfAndNotDeleted(caregiver.getCpf());
+            caregiverRepository.existsByEmailAndNotDeleted(caregiver.getEmail());
+
+            SqlStatements.assertSelectCount(2);
+            SqlStatements.assertNoRepeatedSelects();
+        }
+    }
+
     @AfterEach
     void tearDown() {
         entityManager.clear();
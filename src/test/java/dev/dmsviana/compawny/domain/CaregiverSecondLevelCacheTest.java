@@ -0,0 +1,120 @@
+package dev.dmsviana.compawny.domain;
+
+import dev.dmsviana.compawny.business.service.CaregiverService;
+import dev.dmsviana.compawny.business.service.PetService;
+import dev.dmsviana.compawny.model.entity.Caregiver;
+import dev.dmsviana.compawny.model.entity.types.PetType;
+import dev.dmsviana.compawny.model.repository.exception.EntityNotFoundException;
+import dev.dmsviana.compawny.presentation.dto.caregiver.CaregiverResponseDto;
+import dev.dmsviana.compawny.presentation.dto.caregiver.CreateCaregiverRequestDto;
+import dev.dmsviana.compawny.presentation.dto.caregiver.UpdateCaregiverRequestDto;
+import dev.dmsviana.compawny.presentation.dto.pet.CreatePetRequestDto;
+import dev.dmsviana.compawny.support.QueryCountTestConfig;
+import dev.dmsviana.compawny.support.SqlStatements;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "compawny.cache.second-level.enabled=true")
+@ActiveProfiles("test")
+@Import(QueryCountTestConfig.class)
+class CaregiverSecondLevelCacheTest {
+
+    @Autowired
+    private CaregiverService caregiverService;
+
+    @Autowired
+    private PetService petService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long caregiverId;
+
+    @BeforeEach
+    void setUp() {
+        caregiverId = caregiverService.create(CreateCaregiverRequestDto.builder()
+                .name("John Doe")
+                .cpf("52998224725")
+                .email("john@example.com")
+                .phone("(11) 99999-9999")
+                .hourlyRate(BigDecimal.valueOf(50))
+                .build()).getId();
+        caregiverService.findById(caregiverId);
+        SqlStatements.reset();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM pets");
+        jdbcTemplate.update("DELETE FROM caregivers");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated caregiver lookups from the cache")
+    void shouldServeRepeatedLookupsFromCache() {
+        CaregiverResponseDto found = caregiverService.findById(caregiverId);
+
+        assertThat(found.getEmail()).isEqualTo("john@example.com");
+        SqlStatements.assertTotalCount(0);
+    }
+
+    @Test
+    @DisplayName("Should return fresh data after an update")
+    void shouldReturnFreshDataAfterUpdate() {
+        caregiverService.update(caregiverId, UpdateCaregiverRequestDto.builder()
+                .phone("(11) 98888-8888")
+                .hourlyRate(BigDecimal.valueOf(80))
+                .build());
+
+        CaregiverResponseDto found = caregiverService.findById(caregiverId);
+
+        assertThat(found.getPhone()).isEqualTo("(11) 98888-8888");
+        assertThat(found.getHourlyRate()).isEqualByComparingTo("80.00");
+    }
+
+    @Test
+    @DisplayName("Should keep the cache warm while pets reserve caregiver slots")
+    void shouldKeepCacheWarmWhileReservingSlots() {
+        petService.create(CreatePetRequestDto.builder()
+                .name("Max")
+                .registrationNumber("L2-1")
+                .type(PetType.DOG)
+                .breed("Labrador")
+                .birthDate(LocalDate.now().minusYears(2))
+                .caregiverId(caregiverId)
+                .build());
+        SqlStatements.reset();
+
+        caregiverService.findById(caregiverId);
+
+        SqlStatements.assertTotalCount(0);
+    }
+
+    @Test
+    @DisplayName("Should evict a soft-deleted caregiver")
+    void shouldEvictSoftDeletedCaregiver() {
+        caregiverService.delete(caregiverId);
+
+        assertThat(entityManagerFactory.getCache().contains(Caregiver.class, caregiverId)).isFalse();
+        assertThatThrownBy(() -> caregiverService.findById(caregiverId))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+}
@@ -4,11 +4,16 @@ import dev.dmsviana.compawny.model.entity.Caregiver;
 import dev.dmsviana.compawny.model.entity.Pet;
 import dev.dmsviana.compawny.model.entity.types.PetType;
 import dev.dmsviana.compawny.model.repository.PetRepository;
+import dev.dmsviana.compawny.support.QueryCountTestConfig;
+import dev.dmsviana.compawny.support.SqlStatements;
 import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
@@ -20,6 +25,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @ActiveProfiles("test")
+@Import(QueryCountTestConfig.class)
 class PetRepositoryTest {
 
     @Autowired
@@ -109,6 +115,64 @@ class PetRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Query Counts")
+    class QueryCounts {
+
+        @Test
+        @DisplayName("Should load pet and caregiver in a single select")
+        void shouldLoadPetAndCaregiverInSingleSelect() {
+            entityManager.persistAndFlush(pet);
+            entityManager.clear();
+            SqlStatements.reset();
+
+            Pet found = petRepository.findByIdAndNotDeleted(pet.getId()).orElseThrow();
+
+            assertThat(found.getCaregiver().getName()).isEqualTo("John");
+            SqlStatements.assertSelectCount(1);
+        }
+
+        @Test
+        @DisplayName("Should page pets without loading caregivers one by one")
+        void shouldPagePetsWithoutLoadingCaregiversOneByOne() {
+            entityManager.persist(pet);
+            entityManager.persist(petOf("PET124", caregiverOf("11144477735", "mary@example.com")));
+            entityManager.persist(petOf("PET125", caregiverOf("39053344705", "paul@example.com")));
+            entityManager.flush();
+            entityManager.clear();
+            SqlStatements.reset();
+
+            Page<Pet> page = petRepository.findAll(PageRequest.of(0, 20));
+
+            assertThat(page.getContent())
+                    .extracting(found -> found.getCaregiver().getEmail())
+                    .containsExactlyInAnyOrder("john@example.com", "mary@example.com", "paul@example.com");
+            SqlStatements.assertSelectCount(1);
+            SqlStatements.assertNoRepeatedSelects();
+        }
+
+        private Caregiver caregiverOf(String cpf, String email) {
+            return entityManager.persist(Caregiver.builder()
+                    .name("Other")
+                    .cpf(cpf)
+                    .email(email)
+                    .phone("(11) 98888-8888")
+                    .hourlyRate(BigDecimal.valueOf(40))
+                    .build());
+        }
+
+        private Pet petOf(String registrationNumber, Caregiver owner) {
+            return Pet.builder()
+                    .name("Luna")
+                    .registrationNumber(registrationNumber)
+                    .type(PetType.CAT)
+                    .breed("Siamese")
+                    .birthDate(LocalDate.now().minusYears(3))
+                    .caregiver(owner)
+                    .build();
+        }
+    }
+
     @AfterEach
     void tearDown() {
         entityManager.clear();
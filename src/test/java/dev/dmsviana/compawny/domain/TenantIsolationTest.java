@@ -0,0 +1,101 @@
+package dev.dmsviana.compawny.domain;
+
+import dev.dmsviana.compawny.business.context.TenantContext;
+import dev.dmsviana.compawny.model.entity.Pet;
+import dev.dmsviana.compawny.model.entity.types.PetType;
+import dev.dmsviana.compawny.model.repository.PetRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The tenant is bound when the session opens, so each tenant gets its own transaction instead of the test one.
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TenantIsolationTest {
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+        jdbcTemplate.update("DELETE FROM pets");
+    }
+
+    @Test
+    @DisplayName("Should allow the same registration number in different tenants")
+    void shouldAllowSameRegistrationNumberAcrossTenants() {
+        Pet first = inTenant("clinic-a", () -> petRepository.saveAndFlush(pet("Max")));
+        Pet second = inTenant("clinic-b", () -> petRepository.saveAndFlush(pet("Rex")));
+
+        assertThat(first.getTenantId()).isEqualTo("clinic-a");
+        assertThat(second.getTenantId()).isEqualTo("clinic-b");
+    }
+
+    @Test
+    @DisplayName("Should only see pets of the current tenant")
+    void shouldOnlySeePetsOfCurrentTenant() {
+        Pet petA = inTenant("clinic-a", () -> petRepository.saveAndFlush(pet("Max")));
+        inTenant("clinic-b", () -> petRepository.saveAndFlush(pet("Rex")));
+
+        List<Pet> visibleToB = inTenant("clinic-b", petRepository::findAll);
+
+        assertThat(visibleToB).extracting(Pet::getName).containsExactly("Rex");
+        assertThat(inTenant("clinic-b", () -> petRepository.findByIdAndNotDeleted(petA.getId()))).isEmpty();
+        assertThat(inTenant("clinic-b", () -> petRepository.existsByRegistrationNumber("PET123"))).isTrue();
+        assertThat(inTenant("clinic-c", () -> petRepository.existsByRegistrationNumber("PET123"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should see every tenant when running as root")
+    void shouldSeeEveryTenantAsRoot() {
+        inTenant("clinic-a", () -> petRepository.saveAndFlush(pet("Max")));
+        inTenant("clinic-b", () -> petRepository.saveAndFlush(pet("Rex")));
+
+        List<Pet> all = new ArrayList<>();
+        TenantContext.runAsRoot(() -> all.addAll(petRepository.findAll()));
+
+        assertThat(all).extracting(Pet::getTenantId).containsExactlyInAnyOrder("clinic-a", "clinic-b");
+    }
+
+    private <T> T inTenant(String tenantId, Supplier<T> action) {
+        TenantContext.setTenantId(tenantId);
+        try {
+            return new TransactionTemplate(transactionManager).execute(status -> action.get());
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private static Pet pet(String name) {
+        return Pet.builder()
+                .name(name)
+                .registrationNumber("PET123")
+                .type(PetType.DOG)
+                .breed("Labrador")
+                .birthDate(LocalDate.now().minusYears(2))
+                .build();
+    }
+}
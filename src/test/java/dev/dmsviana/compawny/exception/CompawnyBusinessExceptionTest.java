@@ -0,0 +1,34 @@
+package dev.dmsviana.compawny.exception;
+
+import dev.dmsviana.compawny.model.exception.CompawnyBusinessException;
+import dev.dmsviana.compawny.model.repository.exception.CaregiverCapacityExceededException;
+import dev.dmsviana.compawny.model.repository.exception.EntityAlreadyExistsException;
+import dev.dmsviana.compawny.model.repository.exception.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompawnyBusinessExceptionTest {
+
+    @Test
+    @DisplayName("Should create business exceptions without a stack trace")
+    void shouldCreateBusinessExceptionsWithoutStackTrace() {
+        List<CompawnyBusinessException> exceptions = List.of(
+                new EntityNotFoundException("Entity not found"),
+                new EntityAlreadyExistsException("Entity already exists"),
+                new CaregiverCapacityExceededException("caregiver.capacity.exceeded")
+        );
+
+        assertThat(exceptions).allSatisfy(exception -> assertThat(exception.getStackTrace()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should share the default metadata instead of building it per exception")
+    void shouldShareDefaultMetadata() {
+        assertThat(new EntityNotFoundException("Entity not found").getMetadata())
+                .isSameAs(new EntityNotFoundException().getMetadata());
+    }
+}
@@ -0,0 +1,237 @@
+package dev.dmsviana.compawny.idempotency;
+
+import dev.dmsviana.compawny.business.config.properties.IdempotencyProperties;
+import dev.dmsviana.compawny.business.idempotency.InMemoryIdempotencyStore;
+import dev.dmsviana.compawny.business.idempotency.StoredResponse;
+import dev.dmsviana.compawny.business.idempotency.exception.IdempotencyException;
+import dev.dmsviana.compawny.presentation.filter.IdempotencyFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"name\":\"Rex\",\"registrationNumber\":\"REG-1\"}";
+
+    @Mock
+    private HandlerExceptionResolver handlerExceptionResolver;
+
+    private IdempotencyFilter filter;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        filter = new IdempotencyFilter(new InMemoryIdempotencyStore(properties), properties, handlerExceptionResolver);
+        executions = new AtomicInteger();
+    }
+
+    @Nested
+    @DisplayName("Replay")
+    class Replay {
+
+        @Test
+        @DisplayName("Should serve a retry from the store without invoking the controller again")
+        void shouldReplayFirstResponse() throws Exception {
+            MockHttpServletResponse first = execute(request("key-1", BODY), created());
+            MockHttpServletResponse retry = execute(request("key-1", BODY), created());
+
+            assertThat(executions).hasValue(1);
+            assertThat(retry.getStatus()).isEqualTo(201);
+            assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+            assertThat(retry.getContentType()).startsWith("application/json");
+            assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+            assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should let the controller read the body after it was fingerprinted")
+        void shouldForwardRequestBody() throws Exception {
+            StringBuilder seen = new StringBuilder();
+
+            execute(request("key-1", BODY), (req, res) -> seen.append(new String(
+                    req.getInputStream().readAllBytes(), StandardCharsets.UTF_8)));
+
+            assertThat(seen.toString()).isEqualTo(BODY);
+        }
+
+        @Test
+        @DisplayName("Should run the request again when the first attempt failed with a server error")
+        void shouldNotStoreServerErrors() throws Exception {
+            FilterChain failing = (req, res) -> {
+                executions.incrementAndGet();
+                ((HttpServletResponse) res).setStatus(503);
+            };
+
+            execute(request("key-1", BODY), failing);
+            MockHttpServletResponse retry = execute(request("key-1", BODY), created());
+
+            assertThat(executions).hasValue(2);
+            assertThat(retry.getStatus()).isEqualTo(201);
+        }
+
+        @Test
+        @DisplayName("Should ignore requests without an Idempotency-Key")
+        void shouldIgnoreRequestsWithoutKey() throws Exception {
+            execute(request(null, BODY), created());
+            execute(request(null, BODY), created());
+
+            assertThat(executions).hasValue(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Rejections")
+    class Rejections {
+
+        @Test
+        @DisplayName("Should reject a key reused with a different body")
+        void shouldRejectKeyReuseWithDifferentBody() throws Exception {
+            execute(request("key-1", BODY), created());
+            execute(request("key-1", "{\"name\":\"Bob\"}"), created());
+
+            assertThat(executions).hasValue(1);
+            assertThat(resolvedStatus()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        }
+
+        @Test
+        @DisplayName("Should execute concurrent retries of the same key only once")
+        void shouldRejectConcurrentRetry() throws Exception {
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            FilterChain slow = (req, res) -> {
+                executions.incrementAndGet();
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                res.getWriter().write("{}");
+            };
+
+            var executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<MockHttpServletResponse> first = executor.submit(() -> execute(request("key-1", BODY), slow));
+                assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+                execute(request("key-1", BODY), slow);
+                release.countDown();
+                first.get(5, TimeUnit.SECONDS);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertThat(executions).hasValue(1);
+            assertThat(resolvedStatus()).isEqualTo(HttpStatus.CONFLICT);
+        }
+
+        @Test
+        @DisplayName("Should reject an oversized key without running the request")
+        void shouldRejectOversizedKey() throws Exception {
+            execute(request("k".repeat(256), BODY), created());
+
+            assertThat(executions).hasValue(0);
+            assertThat(resolvedStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
+        @Test
+        @DisplayName("Should reject a body above max-request-size without buffering it")
+        void shouldRejectOversizedBody() throws Exception {
+            IdempotencyProperties properties = new IdempotencyProperties();
+            properties.setMaxRequestSize(DataSize.ofBytes(16));
+            filter = new IdempotencyFilter(new InMemoryIdempotencyStore(properties), properties, handlerExceptionResolver);
+
+            execute(request("key-1", BODY), created());
+
+            assertThat(executions).hasValue(0);
+            assertThat(resolvedStatus()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+        }
+
+        @Test
+        @DisplayName("Should not involve the exception resolver on the happy path")
+        void shouldNotResolveOnSuccess() throws Exception {
+            execute(request("key-1", BODY), created());
+
+            verify(handlerExceptionResolver, never()).resolveException(any(), any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Ownership")
+    class Ownership {
+
+        @Test
+        @DisplayName("Should leave a key alone when someone other than its owner releases or completes it")
+        void shouldIgnoreNonOwners() {
+            InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(new IdempotencyProperties());
+            store.claim("key", "fingerprint", "owner");
+
+            store.release("key", "previous-owner");
+            store.complete("key", "previous-owner", new StoredResponse(201, null, new byte[0]));
+
+            assertThat(store.claim("key", "fingerprint", "retry"))
+                    .hasValueSatisfying(record -> {
+                        assertThat(record.claimToken()).isEqualTo("owner");
+                        assertThat(record.isCompleted()).isFalse();
+                    });
+        }
+    }
+
+    private FilterChain created() {
+        return (req, res) -> {
+            int id = executions.incrementAndGet();
+            ((HttpServletResponse) res).setStatus(201);
+            res.setContentType("application/json");
+            res.getWriter().write("{\"id\":" + id + "}");
+        };
+    }
+
+    private MockHttpServletResponse execute(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String idempotencyKey, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/pets");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (idempotencyKey != null) {
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        }
+        return request;
+    }
+
+    private HttpStatus resolvedStatus() {
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(handlerExceptionResolver).resolveException(any(), any(), isNull(), captor.capture());
+        return ((IdempotencyException) captor.getValue()).getStatus();
+    }
+}
@@ -0,0 +1,46 @@
+package dev.dmsviana.compawny.ratelimit;
+
+import dev.dmsviana.compawny.business.config.properties.RateLimitProperties;
+import dev.dmsviana.compawny.business.ratelimit.RateLimitService;
+import dev.dmsviana.compawny.business.ratelimit.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitServiceTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should stop tracking new clients once max-clients is reached")
+    void shouldBoundTrackedClients() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setCapacity(1);
+        properties.setRefillPerSecond(0);
+        properties.setMaxClients(2);
+        RateLimitService service = new RateLimitService(properties, meterRegistry);
+
+        service.checkRate("addr:1");
+        service.checkRate("addr:2");
+        service.checkRate("addr:3");
+
+        assertThat(meterRegistry.get("compawny.ratelimit.clients").gauge().value()).isEqualTo(2);
+        assertThatThrownBy(() -> service.checkRate("addr:4"))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("Should only recognize configured API keys")
+    void shouldOnlyRecognizeConfiguredApiKeys() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getApiKeys().add("partner-key");
+        RateLimitService service = new RateLimitService(properties, meterRegistry);
+
+        assertThat(service.isKnownApiKey("partner-key")).isTrue();
+        assertThat(service.isKnownApiKey("made-up-key")).isFalse();
+    }
+}
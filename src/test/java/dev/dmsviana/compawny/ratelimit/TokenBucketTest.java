@@ -0,0 +1,85 @@
+package dev.dmsviana.compawny.ratelimit;
+
+import dev.dmsviana.compawny.business.ratelimit.GradientConcurrencyLimiter;
+import dev.dmsviana.compawny.business.ratelimit.TokenBucket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Nested
+    @DisplayName("Token Bucket")
+    class TokenBucketOperations {
+
+        @Test
+        @DisplayName("Should reject once the burst capacity is consumed")
+        void shouldRejectOnceBurstCapacityIsConsumed() {
+            TokenBucket bucket = new TokenBucket(3, 1, clock::get);
+
+            assertThat(bucket.tryConsume()).isTrue();
+            assertThat(bucket.tryConsume()).isTrue();
+            assertThat(bucket.tryConsume()).isTrue();
+            assertThat(bucket.tryConsume()).isFalse();
+            assertThat(bucket.nanosUntilNextToken()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+        }
+
+        @Test
+        @DisplayName("Should refill tokens over time without exceeding capacity")
+        void shouldRefillTokensOverTime() {
+            TokenBucket bucket = new TokenBucket(2, 1, clock::get);
+            bucket.tryConsume();
+            bucket.tryConsume();
+
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+            assertThat(bucket.tryConsume()).isTrue();
+            assertThat(bucket.tryConsume()).isTrue();
+            assertThat(bucket.tryConsume()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Gradient Concurrency Limiter")
+    class ConcurrencyLimiterOperations {
+
+        @Test
+        @DisplayName("Should reject when in-flight requests reach the limit")
+        void shouldRejectWhenInFlightReachesLimit() {
+            GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(2, 1, 10, 0.2);
+
+            assertThat(limiter.tryAcquire()).isTrue();
+            assertThat(limiter.tryAcquire()).isTrue();
+            assertThat(limiter.tryAcquire()).isFalse();
+
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(5));
+
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should shrink the limit when latency grows under load")
+        void shouldShrinkLimitWhenLatencyGrows() {
+            GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(20, 2, 50, 0.5);
+
+            for (int i = 0; i < 50; i++) {
+                for (int j = 0; j < limiter.getLimit(); j++) {
+                    limiter.tryAcquire();
+                }
+                limiter.release(TimeUnit.MILLISECONDS.toNanos(i == 0 ? 5 : 100));
+                while (limiter.getInFlight() > 0) {
+                    limiter.release(0);
+                }
+            }
+
+            assertThat(limiter.getLimit()).isLessThan(20);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package dev.dmsviana.compawny.service;
+
+import dev.dmsviana.compawny.business.config.properties.CaregiverProperties;
+import dev.dmsviana.compawny.business.service.recommendation.CaregiverFeatureTable;
+import dev.dmsviana.compawny.business.service.recommendation.CaregiverFeatures;
+import dev.dmsviana.compawny.model.entity.Caregiver;
+import dev.dmsviana.compawny.model.entity.types.PetType;
+import dev.dmsviana.compawny.model.repository.CaregiverRepository;
+import dev.dmsviana.compawny.model.repository.PetRepository;
+import dev.dmsviana.compawny.model.repository.projection.CaregiverPetTypeCountProjection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CaregiverFeatureTableTest {
+
+    @Mock
+    private CaregiverRepository caregiverRepository;
+
+    @Mock
+    private PetRepository petRepository;
+
+    @Test
+    @DisplayName("Should skip caregivers at capacity and keep per-type experience")
+    void shouldSkipFullCaregiversAndKeepExperience() {
+        CaregiverProperties caregiverProperties = new CaregiverProperties();
+        caregiverProperties.setMaxPets(2);
+        CaregiverFeatureTable table = new CaregiverFeatureTable(caregiverRepository, petRepository, caregiverProperties);
+        when(caregiverRepository.findAllActive()).thenReturn(List.of(caregiver(10L, 2), caregiver(20L, 1)));
+        when(petRepository.countByCaregiverAndType()).thenReturn(List.of(
+                count(10L, PetType.DOG, 2),
+                count(20L, PetType.CAT, 1)
+        ));
+
+        table.refresh();
+
+        List<CaregiverFeatures> features = table.snapshot("clinic-a").caregivers();
+        assertThat(features).extracting(CaregiverFeatures::id).containsExactly(20L);
+        assertThat(features.getFirst().experienceWith(PetType.CAT)).isEqualTo(1);
+        assertThat(features.getFirst().experienceWith(PetType.DOG)).isZero();
+    }
+
+    private static Caregiver caregiver(Long id, int assignedPets) {
+        return Caregiver.builder()
+                .id(id)
+                .tenantId("clinic-a")
+                .name("Caregiver " + id)
+                .hourlyRate(BigDecimal.TEN)
+                .assignedPets(assignedPets)
+                .build();
+    }
+
+    private static CaregiverPetTypeCountProjection count(Long caregiverId, PetType type, long total) {
+        return new CaregiverPetTypeCountProjection() {
+            @Override
+            public Long getCaregiverId() {
+                return caregiverId;
+            }
+
+            @Override
+            public PetType getType() {
+                return type;
+            }
+
+            @Override
+            public Long getTotal() {
+                return total;
+            }
+        };
+    }
+}
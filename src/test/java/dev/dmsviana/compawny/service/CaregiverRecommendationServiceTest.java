@@ -0,0 +1,75 @@
+package dev.dmsviana.compawny.service;
+
+import dev.dmsviana.compawny.business.config.properties.RecommendationProperties;
+import dev.dmsviana.compawny.business.service.recommendation.CaregiverFeatureTable;
+import dev.dmsviana.compawny.business.service.recommendation.CaregiverFeatures;
+import dev.dmsviana.compawny.business.service.recommendation.CaregiverRecommendationService;
+import dev.dmsviana.compawny.model.entity.Pet;
+import dev.dmsviana.compawny.model.entity.types.PetType;
+import dev.dmsviana.compawny.model.repository.PetRepository;
+import dev.dmsviana.compawny.model.repository.exception.EntityNotFoundException;
+import dev.dmsviana.compawny.presentation.dto.caregiver.CaregiverRecommendationResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CaregiverRecommendationServiceTest {
+
+    @Mock
+    private PetRepository petRepository;
+
+    @Mock
+    private CaregiverFeatureTable featureTable;
+
+    private CaregiverRecommendationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CaregiverRecommendationService(petRepository, featureTable, new RecommendationProperties());
+    }
+
+    @Test
+    @DisplayName("Should return the top caregivers ordered by score")
+    void shouldReturnTopCaregiversOrderedByScore() {
+        Pet pet = Pet.builder().id(1L).tenantId("clinic-a").type(PetType.DOG).build();
+        when(petRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(pet));
+        when(featureTable.snapshot("clinic-a")).thenReturn(new CaregiverFeatureTable.Snapshot(List.of(
+                features(10L, "50.00", 8, 0),
+                features(20L, "20.00", 1, 1),
+                features(30L, "30.00", 2, 2)
+        ), 20.0, 50.0, 8));
+
+        List<CaregiverRecommendationResponseDto> result = service.recommend(1L, 2);
+
+        assertThat(result).extracting(CaregiverRecommendationResponseDto::getCaregiverId)
+                .containsExactly(20L, 30L);
+        assertThat(result.get(0).getScore()).isGreaterThan(result.get(1).getScore());
+    }
+
+    @Test
+    @DisplayName("Should throw when pet does not exist")
+    void shouldThrowWhenPetDoesNotExist() {
+        when(petRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.recommend(1L, 5))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    private static CaregiverFeatures features(Long id, String rate, int load, int dogs) {
+        int[] byType = new int[PetType.values().length];
+        byType[PetType.DOG.ordinal()] = dogs;
+        return new CaregiverFeatures(id, "Caregiver " + id, new BigDecimal(rate), Double.parseDouble(rate), load, byType);
+    }
+}
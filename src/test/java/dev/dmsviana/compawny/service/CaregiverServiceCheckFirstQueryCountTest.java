@@ -0,0 +1,72 @@
+package dev.dmsviana.compawny.service;
+
+import dev.dmsviana.compawny.business.service.CaregiverService;
+import dev.dmsviana.compawny.presentation.dto.caregiver.CreateCaregiverRequestDto;
+import dev.dmsviana.compawny.support.QueryCountTestConfig;
+import dev.dmsviana.compawny.support.SqlStatements;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+@SpringBootTest(properties = "compawny.uniqueness.insert-first=false")
+@ActiveProfiles("test")
+@Import(QueryCountTestConfig.class)
+class CaregiverServiceCheckFirstQueryCountTest {
+
+    @Autowired
+    private CaregiverService caregiverService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        SqlStatements.reset();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM pets");
+        jdbcTemplate.update("DELETE FROM caregivers");
+    }
+
+    @Test
+    @DisplayName("Should skip the uniqueness selects when the Bloom filters rule the keys out")
+    void shouldSkipPreChecksForUnseenKeys() {
+        caregiverService.create(caregiver("52998224725", "john@example.com"));
+
+        SqlStatements.assertInsertCount(1);
+        SqlStatements.assertSelectCount(0);
+    }
+
+    @Test
+    @DisplayName("Should run one existence select per key the Bloom filters may have seen")
+    void shouldPreCheckKeysTheFiltersMayHaveSeen() {
+        caregiverService.create(caregiver("11144477735", "mary@example.com"));
+        jdbcTemplate.update("DELETE FROM caregivers");
+        SqlStatements.reset();
+
+        caregiverService.create(caregiver("11144477735", "mary@example.com"));
+
+        SqlStatements.assertSelectCount(2);
+        SqlStatements.assertInsertCount(1);
+    }
+
+    private static CreateCaregiverRequestDto caregiver(String cpf, String email) {
+        return CreateCaregiverRequestDto.builder()
+                .name("John Doe")
+                .cpf(cpf)
+                .email(email)
+                .phone("(11) 99999-9999")
+                .hourlyRate(BigDecimal.valueOf(50))
+                .build();
+    }
+}
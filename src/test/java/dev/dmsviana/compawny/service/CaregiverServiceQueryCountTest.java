@@ -0,0 +1,101 @@
+package dev.dmsviana.compawny.service;
+
+import dev.dmsviana.compawny.business.service.CaregiverService;
+import dev.dmsviana.compawny.presentation.dto.caregiver.CaregiverResponseDto;
+import dev.dmsviana.compawny.presentation.dto.caregiver.CreateCaregiverRequestDto;
+import dev.dmsviana.compawny.presentation.dto.caregiver.UpdateCaregiverRequestDto;
+import dev.dmsviana.compawny.support.QueryCountTestConfig;
+import dev.dmsviana.compawny.support.SqlStatements;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+@SpringBootTest(properties = "compawny.uniqueness.insert-first=true")
+@ActiveProfiles("test")
+@Import(QueryCountTestConfig.class)
+class CaregiverServiceQueryCountTest {
+
+    @Autowired
+    private CaregiverService caregiverService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        SqlStatements.reset();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM pets");
+        jdbcTemplate.update("DELETE FROM caregivers");
+    }
+
+    @Test
+    @DisplayName("Should create a caregiver with a single insert and no uniqueness pre-checks")
+    void shouldCreateCaregiverWithSingleInsert() {
+        caregiverService.create(caregiver("52998224725", "john@example.com"));
+
+        SqlStatements.assertInsertCount(1);
+        SqlStatements.assertSelectCount(0);
+    }
+
+    @Test
+    @DisplayName("Should find a caregiver with one select")
+    void shouldFindCaregiverWithOneSelect() {
+        CaregiverResponseDto created = caregiverService.create(caregiver("52998224725", "john@example.com"));
+        SqlStatements.reset();
+
+        caregiverService.findById(created.getId());
+
+        SqlStatements.assertTotalCount(1);
+    }
+
+    @Test
+    @DisplayName("Should page caregivers with one select")
+    void shouldPageCaregiversWithOneSelect() {
+        caregiverService.create(caregiver("52998224725", "john@example.com"));
+        caregiverService.create(caregiver("11144477735", "mary@example.com"));
+        SqlStatements.reset();
+
+        caregiverService.findAll(PageRequest.of(0, 20));
+
+        SqlStatements.assertSelectCount(1);
+    }
+
+    @Test
+    @DisplayName("Should update a caregiver with one read and one write")
+    void shouldUpdateCaregiverWithOneReadAndOneWrite() {
+        CaregiverResponseDto created = caregiverService.create(caregiver("52998224725", "john@example.com"));
+        SqlStatements.reset();
+
+        caregiverService.update(created.getId(), UpdateCaregiverRequestDto.builder()
+                .phone("(11) 98888-8888")
+                .description("Weekend walks")
+                .hourlyRate(BigDecimal.valueOf(75))
+                .build());
+
+        SqlStatements.assertSelectCount(1);
+        SqlStatements.assertUpdateCount(1);
+    }
+
+    private static CreateCaregiverRequestDto caregiver(String cpf, String email) {
+        return CreateCaregiverRequestDto.builder()
+                .name("John Doe")
+                .cpf(cpf)
+                .email(email)
+                .phone("(11) 99999-9999")
+                .hourlyRate(BigDecimal.valueOf(50))
+                .build();
+    }
+}
@@ -1,14 +1,20 @@
 package dev.dmsviana.compawny.service;
 
+import dev.dmsviana.compawny.business.bloom.UniqueKeyFilter;
+import dev.dmsviana.compawny.business.config.properties.CaregiverProperties;
+import dev.dmsviana.compawny.business.config.properties.UniquenessProperties;
 import dev.dmsviana.compawny.business.service.CaregiverService;
+import dev.dmsviana.compawny.business.service.reassignment.PetReassignmentService;
 import dev.dmsviana.compawny.model.entity.Caregiver;
 import dev.dmsviana.compawny.model.repository.CaregiverRepository;
+import dev.dmsviana.compawny.model.repository.exception.CaregiverCapacityExceededException;
 import dev.dmsviana.compawny.model.repository.exception.EntityAlreadyExistsException;
 import dev.dmsviana.compawny.model.repository.exception.EntityNotFoundException;
 import dev.dmsviana.compawny.presentation.dto.caregiver.CaregiverResponseDto;
 import dev.dmsviana.compawny.presentation.dto.caregiver.CreateCaregiverRequestDto;
 import dev.dmsviana.compawny.presentation.dto.caregiver.UpdateCaregiverRequestDto;
 import dev.dmsviana.compawny.presentation.dto.caregiver.mapper.CaregiverMapper;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,13 +25,16 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -38,6 +47,18 @@ class CaregiverServiceTest {
     @Mock
     private CaregiverMapper mapper;
 
+    @Mock
+    private UniqueKeyFilter uniqueKeyFilter;
+
+    @Mock
+    private UniquenessProperties uniquenessProperties;
+
+    @Mock
+    private CaregiverProperties caregiverProperties;
+
+    @Mock
+    private PetReassignmentService petReassignmentService;
+
     @InjectMocks
     private CaregiverService service;
 
@@ -79,6 +100,7 @@ class CaregiverServiceTest {
         @Test
         @DisplayName("Should create caregiver when data is valid")
         void shouldCreateCaregiverWhenDataIsValid() {
+            when(uniqueKeyFilter.mightExist(any(), anyString())).thenReturn(true);
             when(repository.existsByCpfAndNotDeleted(anyString())).thenReturn(false);
             when(repository.existsByEmailAndNotDeleted(anyString())).thenReturn(false);
             when(mapper.toEntity(any())).thenReturn(caregiver);
@@ -95,9 +117,23 @@ class CaregiverServiceTest {
                     .isEqualTo(createDto.getCpf());
         }
 
+        @Test
+        @DisplayName("Should skip uniqueness queries when the filter rules the values out")
+        void shouldSkipUniquenessQueriesWhenFilterRulesValuesOut() {
+            when(mapper.toEntity(any())).thenReturn(caregiver);
+            when(repository.save(any())).thenReturn(caregiver);
+            when(mapper.toDto(any())).thenReturn(responseDto);
+
+            service.create(createDto);
+
+            verify(repository, never()).existsByCpfAndNotDeleted(anyString());
+            verify(repository, never()).existsByEmailAndNotDeleted(anyString());
+        }
+
         @Test
         @DisplayName("Should throw exception when CPF already exists")
         void shouldThrowExceptionWhenCpfAlreadyExists() {
+            when(uniqueKeyFilter.mightExist(any(), anyString())).thenReturn(true);
             when(repository.existsByCpfAndNotDeleted(anyString())).thenReturn(true);
 
             assertThatThrownBy(() -> service.create(createDto))
@@ -108,6 +144,7 @@ class CaregiverServiceTest {
         @Test
         @DisplayName("Should throw exception when email already exists")
         void shouldThrowExceptionWhenEmailAlreadyExists() {
+            when(uniqueKeyFilter.mightExist(any(), anyString())).thenReturn(true);
             when(repository.existsByCpfAndNotDeleted(anyString())).thenReturn(false);
             when(repository.existsByEmailAndNotDeleted(anyString())).thenReturn(true);
 
@@ -117,6 +154,57 @@ class CaregiverServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Insert-First Create Operations")
+    class InsertFirstCreateOperations {
+
+        @BeforeEach
+        void enableInsertFirst() {
+            when(uniquenessProperties.isInsertFirst()).thenReturn(true);
+            when(mapper.toEntity(any())).thenReturn(caregiver);
+        }
+
+        @Test
+        @DisplayName("Should create caregiver with a single insert")
+        void shouldCreateCaregiverWithSingleInsert() {
+            when(repository.saveAndFlush(any())).thenReturn(caregiver);
+            when(mapper.toDto(any())).thenReturn(responseDto);
+
+            CaregiverResponseDto result = service.create(createDto);
+
+            assertThat(result).isEqualTo(responseDto);
+            verify(repository, never()).existsByCpfAndNotDeleted(anyString());
+            verify(repository, never()).existsByEmailAndNotDeleted(anyString());
+        }
+
+        @Test
+        @DisplayName("Should translate CPF unique constraint violation")
+        void shouldTranslateCpfUniqueConstraintViolation() {
+            when(repository.saveAndFlush(any())).thenThrow(uniqueViolation("PUBLIC.UK_CAREGIVER_CPF_INDEX_2"));
+
+            assertThatThrownBy(() -> service.create(createDto))
+                    .isInstanceOf(EntityAlreadyExistsException.class)
+                    .hasMessage("caregiver.cpf.duplicate");
+        }
+
+        @Test
+        @DisplayName("Should translate email unique constraint violation")
+        void shouldTranslateEmailUniqueConstraintViolation() {
+            when(repository.saveAndFlush(any())).thenThrow(uniqueViolation("uk_caregiver_tenant_email"));
+
+            assertThatThrownBy(() -> service.create(createDto))
+                    .isInstanceOf(EntityAlreadyExistsException.class)
+                    .hasMessage("caregiver.email.duplicate");
+        }
+
+        private DataIntegrityViolationException uniqueViolation(String constraintName) {
+            return new DataIntegrityViolationException(
+                    "could not execute statement",
+                    new ConstraintViolationException("Unique index violation", new SQLException(), constraintName)
+            );
+        }
+    }
+
     @Nested
     @DisplayName("Find Operations")
     class FindOperations {
@@ -182,6 +270,48 @@ class CaregiverServiceTest {
 
             verify(repository).delete(caregiverCaptor.capture());
             assertThat(caregiverCaptor.getValue()).isEqualTo(caregiver);
+            verify(petReassignmentService).detachAllAfterCommit(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Capacity Operations")
+    class CapacityOperations {
+
+        @BeforeEach
+        void setMaxPets() {
+            when(caregiverProperties.getMaxPets()).thenReturn(3);
+        }
+
+        @Test
+        @DisplayName("Should reserve a slot with a single conditional update")
+        void shouldReserveSlotWithConditionalUpdate() {
+            when(repository.reserveSlots(1L, 1, 3)).thenReturn(1);
+
+            service.reserveSlot(1L);
+
+            verify(repository, never()).findByIdAndNotDeleted(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should reject the reservation when caregiver is full")
+        void shouldRejectReservationWhenCaregiverIsFull() {
+            when(repository.reserveSlots(1L, 1, 3)).thenReturn(0);
+            when(repository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(caregiver));
+
+            assertThatThrownBy(() -> service.reserveSlot(1L))
+                    .isInstanceOf(CaregiverCapacityExceededException.class)
+                    .hasMessage("caregiver.capacity.exceeded");
+        }
+
+        @Test
+        @DisplayName("Should report not found when caregiver does not exist")
+        void shouldReportNotFoundWhenCaregiverDoesNotExist() {
+            when(repository.reserveSlots(1L, 1, 3)).thenReturn(0);
+            when(repository.findByIdAndNotDeleted(1L)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> service.reserveSlot(1L))
+                    .isInstanceOf(EntityNotFoundException.class);
         }
     }
-}
+}
\ No newline at end of file
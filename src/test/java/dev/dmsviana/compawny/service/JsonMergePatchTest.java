@@ -0,0 +1,81 @@
+package dev.dmsviana.compawny.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.dmsviana.compawny.business.service.JsonMergePatch;
+import dev.dmsviana.compawny.model.entity.types.PetType;
+import dev.dmsviana.compawny.presentation.dto.caregiver.UpdateCaregiverRequestDto;
+import dev.dmsviana.compawny.presentation.dto.pet.UpdatePetRequestDto;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonMergePatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final JsonMergePatch jsonMergePatch = new JsonMergePatch(
+            objectMapper, Validation.buildDefaultValidatorFactory().getValidator());
+
+    private final UpdatePetRequestDto current = UpdatePetRequestDto.builder()
+            .name("Max")
+            .breed("Labrador")
+            .type(PetType.DOG)
+            .caregiverId(3L)
+            .build();
+
+    @Test
+    @DisplayName("Should replace only the members present in the patch")
+    void shouldReplaceOnlySuppliedMembers() throws Exception {
+        UpdatePetRequestDto patched = jsonMergePatch.apply(json("{\"breed\":\"Golden Retriever\"}"), current, UpdatePetRequestDto.class);
+
+        assertThat(patched.getName()).isEqualTo("Max");
+        assertThat(patched.getBreed()).isEqualTo("Golden Retriever");
+        assertThat(patched.getType()).isEqualTo(PetType.DOG);
+        assertThat(patched.getCaregiverId()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should clear a member when the patch sets it to null")
+    void shouldClearMemberSetToNull() throws Exception {
+        UpdatePetRequestDto patched = jsonMergePatch.apply(json("{\"caregiverId\":null}"), current, UpdatePetRequestDto.class);
+
+        assertThat(patched.getCaregiverId()).isNull();
+        assertThat(patched.getName()).isEqualTo("Max");
+    }
+
+    @Test
+    @DisplayName("Should reject a patch that leaves the resource invalid")
+    void shouldRejectInvalidResult() throws Exception {
+        var caregiver = UpdateCaregiverRequestDto.builder()
+                .phone("(11) 99999-9999")
+                .hourlyRate(BigDecimal.valueOf(50))
+                .build();
+
+        assertThatThrownBy(() -> jsonMergePatch.apply(json("{\"phone\":\"123\"}"), caregiver, UpdateCaregiverRequestDto.class))
+                .isInstanceOf(ConstraintViolationException.class);
+        assertThatThrownBy(() -> jsonMergePatch.apply(json("{\"hourlyRate\":null}"), caregiver, UpdateCaregiverRequestDto.class))
+                .isInstanceOf(ConstraintViolationException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject documents that are not objects or touch unknown members")
+    void shouldRejectMalformedPatch() throws Exception {
+        assertThatThrownBy(() -> jsonMergePatch.apply(json("[]"), current, UpdatePetRequestDto.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("patch.invalid");
+        assertThatThrownBy(() -> jsonMergePatch.apply(json("{\"registrationNumber\":\"X\"}"), current, UpdatePetRequestDto.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("patch.invalid");
+    }
+
+    private JsonNode json(String value) throws Exception {
+        return objectMapper.readTree(value);
+    }
+}
@@ -0,0 +1,127 @@
+package dev.dmsviana.compawny.service;
+
+import dev.dmsviana.compawny.business.config.properties.CaregiverProperties;
+import dev.dmsviana.compawny.business.config.properties.ReassignmentProperties;
+import dev.dmsviana.compawny.business.service.reassignment.PetReassignmentService;
+import dev.dmsviana.compawny.business.service.reassignment.ReassignmentJob;
+import dev.dmsviana.compawny.business.service.reassignment.ReassignmentStatus;
+import dev.dmsviana.compawny.model.entity.Caregiver;
+import dev.dmsviana.compawny.model.repository.CaregiverRepository;
+import dev.dmsviana.compawny.model.repository.PetRepository;
+import dev.dmsviana.compawny.model.repository.exception.CaregiverCapacityExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PetReassignmentServiceTest {
+
+    @Mock
+    private PetRepository petRepository;
+
+    @Mock
+    private CaregiverRepository caregiverRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final Caregiver source = Caregiver.builder().id(1L).assignedPets(3).build();
+
+    private PetReassignmentService service;
+
+    @BeforeEach
+    void setUp() {
+        ReassignmentProperties properties = new ReassignmentProperties();
+        properties.setChunkSize(2);
+        CaregiverProperties caregiverProperties = new CaregiverProperties();
+        caregiverProperties.setMaxPets(3);
+
+        service = new PetReassignmentService(petRepository, caregiverRepository, properties,
+                caregiverProperties, new SyncTaskExecutor(), transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should detach pets chunk by chunk with set-based updates")
+    void shouldDetachPetsInChunks() {
+        when(caregiverRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(source));
+        when(petRepository.countActiveByCaregiverId(1L)).thenReturn(3L);
+        when(petRepository.findActiveIdsByCaregiverId(eq(1L), any()))
+                .thenReturn(List.of(10L, 11L), List.of(12L), List.of());
+        when(petRepository.detachCaregiver(anyList(), eq(1L))).thenReturn(2, 1);
+
+        ReassignmentJob job = service.reassign(1L, null);
+
+        assertThat(job.getStatus()).isEqualTo(ReassignmentStatus.COMPLETED);
+        assertThat(job.getProcessed()).isEqualTo(3);
+        verify(petRepository).detachCaregiver(List.of(10L, 11L), 1L);
+        verify(petRepository).detachCaregiver(List.of(12L), 1L);
+        verify(caregiverRepository).releaseSlots(1L, 2);
+        verify(caregiverRepository).releaseSlots(1L, 1);
+        assertThat(service.getJob(1L, job.getId())).isSameAs(job);
+    }
+
+    @Test
+    @DisplayName("Should hand back the slots of pets a concurrent update already moved")
+    void shouldCorrectCountersForPetsMovedConcurrently() {
+        Caregiver target = Caregiver.builder().id(2L).build();
+        when(caregiverRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(source));
+        when(caregiverRepository.findAssignedPets(2L)).thenReturn(Optional.of(0));
+        when(caregiverRepository.getReferenceById(2L)).thenReturn(target);
+        when(caregiverRepository.reserveSlots(2L, 2, 3)).thenReturn(1);
+        when(petRepository.countActiveByCaregiverId(1L)).thenReturn(2L);
+        when(petRepository.findActiveIdsByCaregiverId(eq(1L), any()))
+                .thenReturn(List.of(10L, 11L), List.of());
+        when(petRepository.assignCaregiver(List.of(10L, 11L), 1L, target)).thenReturn(1);
+
+        ReassignmentJob job = service.reassign(1L, 2L);
+
+        assertThat(job.getStatus()).isEqualTo(ReassignmentStatus.COMPLETED);
+        assertThat(job.getProcessed()).isEqualTo(1);
+        verify(caregiverRepository).restoreSlots(1L, 1);
+        verify(caregiverRepository).releaseSlots(2L, 1);
+    }
+
+    @Test
+    @DisplayName("Should reject reassignment when target has no room for every pet")
+    void shouldRejectWhenTargetHasNoCapacity() {
+        when(caregiverRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(source));
+        when(caregiverRepository.findAssignedPets(2L)).thenReturn(Optional.of(1));
+        when(petRepository.countActiveByCaregiverId(1L)).thenReturn(3L);
+
+        assertThatThrownBy(() -> service.reassign(1L, 2L))
+                .isInstanceOf(CaregiverCapacityExceededException.class);
+        verify(petRepository, never()).assignCaregiver(anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should mark the job as failed when a chunk cannot be reserved")
+    void shouldFailJobWhenChunkReservationFails() {
+        when(caregiverRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(source));
+        when(caregiverRepository.findAssignedPets(2L)).thenReturn(Optional.of(0));
+        when(petRepository.countActiveByCaregiverId(1L)).thenReturn(3L);
+        when(petRepository.findActiveIdsByCaregiverId(eq(1L), any())).thenReturn(List.of(10L, 11L));
+        when(caregiverRepository.reserveSlots(2L, 2, 3)).thenReturn(0);
+
+        ReassignmentJob job = service.reassign(1L, 2L);
+
+        assertThat(job.getStatus()).isEqualTo(ReassignmentStatus.FAILED);
+        assertThat(job.getError()).isEqualTo("caregiver.capacity.exceeded");
+    }
+}
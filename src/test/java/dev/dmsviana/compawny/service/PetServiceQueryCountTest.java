@@ -0,0 +1,146 @@
+package dev.dmsviana.compawny.service;
+
+import dev.dmsviana.compawny.business.service.PetService;
+import dev.dmsviana.compawny.model.entity.Caregiver;
+import dev.dmsviana.compawny.model.entity.types.PetType;
+import dev.dmsviana.compawny.model.repository.CaregiverRepository;
+import dev.dmsviana.compawny.presentation.dto.pet.CreatePetRequestDto;
+import dev.dmsviana.compawny.presentation.dto.pet.PetResponseDto;
+import dev.dmsviana.compawny.presentation.dto.pet.UpdatePetRequestDto;
+import dev.dmsviana.compawny.support.QueryCountTestConfig;
+import dev.dmsviana.compawny.support.SqlStatements;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "compawny.uniqueness.insert-first=true")
+@ActiveProfiles("test")
+@Import(QueryCountTestConfig.class)
+class PetServiceQueryCountTest {
+
+    @Autowired
+    private PetService petService;
+
+    @Autowired
+    private CaregiverRepository caregiverRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Caregiver john;
+    private Caregiver mary;
+
+    @BeforeEach
+    void setUp() {
+        john = caregiverRepository.save(caregiver("52998224725", "john@example.com"));
+        mary = caregiverRepository.save(caregiver("11144477735", "mary@example.com"));
+        SqlStatements.reset();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM pets");
+        jdbcTemplate.update("DELETE FROM caregivers");
+    }
+
+    @Test
+    @DisplayName("Should reserve the slot and read the caregiver exactly once when creating a pet")
+    void shouldReadCaregiverOnceWhenCreatingPet() {
+        petService.create(pet("QC-1", john.getId()));
+
+        SqlStatements.assertSelectCount(1);
+        SqlStatements.assertInsertCount(1);
+        SqlStatements.assertUpdateCount(1);
+    }
+
+    @Test
+    @DisplayName("Should fetch a pet with its caregiver in one statement")
+    void shouldFetchPetWithCaregiverInOneStatement() {
+        PetResponseDto created = petService.create(pet("QC-1", john.getId()));
+        SqlStatements.reset();
+
+        PetResponseDto found = petService.findById(created.getId());
+
+        assertThat(found.getCaregiver().getId()).isEqualTo(john.getId());
+        SqlStatements.assertTotalCount(1);
+    }
+
+    @Test
+    @DisplayName("Should list a page of pets without an N+1 on caregivers")
+    void shouldListPetsWithoutNPlusOne() {
+        petService.create(pet("QC-1", john.getId()));
+        petService.create(pet("QC-2", mary.getId()));
+        petService.create(pet("QC-3", john.getId()));
+        SqlStatements.reset();
+
+        var page = petService.findAll(PageRequest.of(0, 20));
+
+        assertThat(page.getContent()).allSatisfy(found -> assertThat(found.getCaregiver()).isNotNull());
+        SqlStatements.assertSelectCount(1);
+        SqlStatements.assertNoRepeatedSelects();
+    }
+
+    @Test
+    @DisplayName("Should move a pet between caregivers with two counter updates and one row update")
+    void shouldMovePetWithBoundedStatements() {
+        PetResponseDto created = petService.create(pet("QC-1", john.getId()));
+        SqlStatements.reset();
+
+        petService.update(created.getId(), UpdatePetRequestDto.builder()
+                .name(created.getName())
+                .breed(created.getBreed())
+                .type(created.getType())
+                .caregiverId(mary.getId())
+                .build());
+
+        SqlStatements.assertSelectCount(2);
+        SqlStatements.assertUpdateCount(3);
+        SqlStatements.assertNoRepeatedSelects();
+    }
+
+    @Test
+    @DisplayName("Should delete a pet and release its slot without extra reads")
+    void shouldDeletePetWithoutExtraReads() {
+        PetResponseDto created = petService.create(pet("QC-1", john.getId()));
+        SqlStatements.reset();
+
+        petService.delete(created.getId());
+
+        SqlStatements.assertSelectCount(1);
+        SqlStatements.assertDeleteCount(1);
+        SqlStatements.assertUpdateCount(1);
+    }
+
+    private static Caregiver caregiver(String cpf, String email) {
+        return Caregiver.builder()
+                .name("John")
+                .cpf(cpf)
+                .email(email)
+                .phone("(11) 99999-9999")
+                .hourlyRate(BigDecimal.valueOf(50))
+                .build();
+    }
+
+    private static CreatePetRequestDto pet(String registration, Long caregiverId) {
+        return CreatePetRequestDto.builder()
+                .name("Max")
+                .registrationNumber(registration)
+                .type(PetType.DOG)
+                .breed("Labrador")
+                .birthDate(LocalDate.now().minusYears(2))
+                .caregiverId(caregiverId)
+                .build();
+    }
+}
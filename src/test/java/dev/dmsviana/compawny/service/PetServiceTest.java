@@ -1,15 +1,25 @@
 package dev.dmsviana.compawny.service;
 
+import dev.dmsviana.compawny.business.bloom.UniqueKeyFilter;
+import dev.dmsviana.compawny.business.config.properties.UniquenessProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import dev.dmsviana.compawny.business.service.CaregiverService;
+import dev.dmsviana.compawny.business.service.JsonMergePatch;
 import dev.dmsviana.compawny.business.service.PetService;
+import dev.dmsviana.compawny.business.service.PetStatisticsService;
+import dev.dmsviana.compawny.model.entity.Caregiver;
 import dev.dmsviana.compawny.model.entity.Pet;
 import dev.dmsviana.compawny.model.entity.types.PetType;
 import dev.dmsviana.compawny.model.repository.PetRepository;
+import dev.dmsviana.compawny.model.repository.exception.CaregiverCapacityExceededException;
 import dev.dmsviana.compawny.model.repository.exception.EntityAlreadyExistsException;
 import dev.dmsviana.compawny.model.repository.exception.EntityNotFoundException;
 import dev.dmsviana.compawny.presentation.dto.pet.CreatePetRequestDto;
 import dev.dmsviana.compawny.presentation.dto.pet.PetResponseDto;
+import dev.dmsviana.compawny.presentation.dto.pet.UpdatePetRequestDto;
 import dev.dmsviana.compawny.presentation.dto.pet.mapper.PetMapper;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -20,12 +30,17 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -43,6 +58,18 @@ class PetServiceTest {
     @Mock
     private CaregiverService caregiverService;
 
+    @Mock
+    private UniqueKeyFilter uniqueKeyFilter;
+
+    @Mock
+    private UniquenessProperties uniquenessProperties;
+
+    @Mock
+    private PetStatisticsService petStatisticsService;
+
+    @Mock
+    private JsonMergePatch jsonMergePatch;
+
     @InjectMocks
     private PetService service;
 
@@ -86,6 +113,7 @@ class PetServiceTest {
 
         @Test
         void shouldCreatePetWhenDataIsValid() {
+            when(uniqueKeyFilter.mightExist(any(), anyString())).thenReturn(true);
             when(petRepository.existsByRegistrationNumber(anyString())).thenReturn(false);
             when(petMapper.toEntity(any())).thenReturn(pet);
             when(petRepository.save(any())).thenReturn(pet);
@@ -97,10 +125,23 @@ class PetServiceTest {
             verify(petRepository).save(petCaptor.capture());
             assertThat(petCaptor.getValue().getRegistrationNumber())
                     .isEqualTo(createDto.getRegistrationNumber());
+            verify(petStatisticsService).recordCreated(pet);
+        }
+
+        @Test
+        void shouldSkipRegistrationQueryWhenFilterRulesValueOut() {
+            when(petMapper.toEntity(any())).thenReturn(pet);
+            when(petRepository.save(any())).thenReturn(pet);
+            when(petMapper.toDto(any())).thenReturn(responseDto);
+
+            service.create(createDto);
+
+            verify(petRepository, never()).existsByRegistrationNumber(anyString());
         }
 
         @Test
         void shouldThrowExceptionWhenRegistrationExists() {
+            when(uniqueKeyFilter.mightExist(any(), anyString())).thenReturn(true);
             when(petRepository.existsByRegistrationNumber(anyString())).thenReturn(true);
 
             assertThatThrownBy(() -> service.create(createDto))
@@ -109,6 +150,40 @@ class PetServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Insert-First Create Operations")
+    class InsertFirstCreateOperations {
+
+        @BeforeEach
+        void enableInsertFirst() {
+            when(uniquenessProperties.isInsertFirst()).thenReturn(true);
+            when(petMapper.toEntity(any())).thenReturn(pet);
+        }
+
+        @Test
+        void shouldCreatePetWithSingleInsert() {
+            when(petRepository.saveAndFlush(any())).thenReturn(pet);
+            when(petMapper.toDto(any())).thenReturn(responseDto);
+
+            var result = service.create(createDto);
+
+            assertThat(result).isEqualTo(responseDto);
+            verify(petRepository, never()).existsByRegistrationNumber(anyString());
+        }
+
+        @Test
+        void shouldTranslateRegistrationUniqueConstraintViolation() {
+            when(petRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException(
+                    "could not execute statement",
+                    new ConstraintViolationException("Unique index violation", new SQLException(), "UK_PET_REGISTRATION_NUMBER")
+            ));
+
+            assertThatThrownBy(() -> service.create(createDto))
+                    .isInstanceOf(EntityAlreadyExistsException.class)
+                    .hasMessage("pet.registration.duplicate");
+        }
+    }
+
     @Nested
     @DisplayName("Find Operations")
     class FindOperations {
@@ -134,4 +209,102 @@ class PetServiceTest {
                     .hasMessage("pet.notFound");
         }
     }
+
+    @Nested
+    @DisplayName("Caregiver Capacity Operations")
+    class CaregiverCapacityOperations {
+
+        private final Caregiver first = Caregiver.builder().id(1L).build();
+        private final Caregiver second = Caregiver.builder().id(2L).build();
+
+        @Test
+        void shouldReserveSlotBeforeAssigningCaregiverOnCreate() {
+            createDto.setCaregiverId(1L);
+            when(petMapper.toEntity(any())).thenReturn(pet);
+            when(caregiverService.getCaregiverById(1L)).thenReturn(first);
+            when(petRepository.save(any())).thenReturn(pet);
+            when(petMapper.toDto(any())).thenReturn(responseDto);
+
+            service.create(createDto);
+
+            verify(caregiverService).reserveSlot(1L);
+            assertThat(pet.getCaregiver()).isEqualTo(first);
+        }
+
+        @Test
+        void shouldNotSaveWhenCaregiverIsFull() {
+            createDto.setCaregiverId(1L);
+            when(petMapper.toEntity(any())).thenReturn(pet);
+            doThrow(new CaregiverCapacityExceededException("caregiver.capacity.exceeded"))
+                    .when(caregiverService).reserveSlot(1L);
+
+            assertThatThrownBy(() -> service.create(createDto))
+                    .isInstanceOf(CaregiverCapacityExceededException.class);
+            verify(petRepository, never()).save(any());
+        }
+
+        @Test
+        void shouldMoveSlotInIdOrderOnUpdate() {
+            pet.setCaregiver(second);
+            var updateDto = UpdatePetRequestDto.builder()
+                    .name("Max").breed("Labrador").type(PetType.DOG).caregiverId(1L)
+                    .build();
+            when(petRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(pet));
+            when(caregiverService.getCaregiverById(1L)).thenReturn(first);
+            when(petRepository.save(any())).thenReturn(pet);
+            when(petMapper.toDto(any())).thenReturn(responseDto);
+
+            service.update(1L, updateDto);
+
+            var order = inOrder(caregiverService);
+            order.verify(caregiverService).reserveSlot(1L);
+            order.verify(caregiverService).releaseSlot(2L);
+            assertThat(pet.getCaregiver()).isEqualTo(first);
+        }
+
+        @Test
+        void shouldReleaseSlotOnDelete() {
+            pet.setCaregiver(first);
+            when(petRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(pet));
+
+            service.delete(1L);
+
+            verify(caregiverService).releaseSlot(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Patch Operations")
+    class PatchOperations {
+
+        @Test
+        @DisplayName("Should apply the merge patch to the current state and keep the caregiver when absent")
+        void shouldApplyPatchToCurrentState() {
+            JsonNode patch = JsonNodeFactory.instance.objectNode().put("breed", "Golden Retriever");
+            var current = UpdatePetRequestDto.builder().name("Max").breed("Labrador").type(PetType.DOG).build();
+            var patched = UpdatePetRequestDto.builder().name("Max").breed("Golden Retriever").type(PetType.DOG).build();
+            when(petRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(pet));
+            when(petMapper.toUpdateDto(pet)).thenReturn(current);
+            when(jsonMergePatch.apply(patch, current, UpdatePetRequestDto.class)).thenReturn(patched);
+            when(petRepository.save(pet)).thenReturn(pet);
+            when(petMapper.toDto(pet)).thenReturn(responseDto);
+
+            PetResponseDto result = service.patch(1L, patch);
+
+            assertThat(result).isEqualTo(responseDto);
+            verify(petMapper).updateEntityFromDto(patched, pet);
+            verify(caregiverService, never()).reserveSlot(anyLong());
+            verify(caregiverService, never()).releaseSlot(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should not load the patch target when the pet does not exist")
+        void shouldThrowWhenPetNotFound() {
+            when(petRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> service.patch(1L, JsonNodeFactory.instance.objectNode()))
+                    .isInstanceOf(EntityNotFoundException.class);
+            verify(jsonMergePatch, never()).apply(any(), any(), any());
+        }
+    }
 }
\ No newline at end of file
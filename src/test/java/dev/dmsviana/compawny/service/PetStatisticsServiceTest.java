@@ -0,0 +1,129 @@
+package dev.dmsviana.compawny.service;
+
+import dev.dmsviana.compawny.business.context.TenantContext;
+import dev.dmsviana.compawny.business.service.PetStatisticsService;
+import dev.dmsviana.compawny.model.entity.Pet;
+import dev.dmsviana.compawny.model.entity.types.AgeBucket;
+import dev.dmsviana.compawny.model.entity.types.PetType;
+import dev.dmsviana.compawny.model.repository.PetRepository;
+import dev.dmsviana.compawny.model.repository.projection.PetStatisticsProjection;
+import dev.dmsviana.compawny.presentation.dto.pet.PetStatisticsResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PetStatisticsServiceTest {
+
+    @Mock
+    private PetRepository petRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private PetStatisticsService service;
+
+    @Test
+    @DisplayName("Should rebuild aggregates from the grouped query on reconcile")
+    void shouldRebuildAggregatesOnReconcile() {
+        PetStatisticsProjection row = mock(PetStatisticsProjection.class);
+        when(row.getTenantId()).thenReturn(TenantContext.DEFAULT_TENANT);
+        when(row.getType()).thenReturn(PetType.DOG);
+        when(row.getBreed()).thenReturn("Labrador");
+        when(row.getBirthDate()).thenReturn(LocalDate.now().minusYears(2));
+        when(row.getTotal()).thenReturn(3L);
+        when(petRepository.countByTypeBreedAndBirthDate()).thenReturn(List.of(row));
+
+        service.reconcile();
+        PetStatisticsResponseDto statistics = service.getStatistics();
+
+        assertThat(statistics.getTotal()).isEqualTo(3);
+        assertThat(statistics.getByType()).containsEntry(PetType.DOG, 3L);
+        assertThat(statistics.getByBreed()).containsEntry("Labrador", 3L);
+        assertThat(statistics.getByAgeBucket()).containsEntry(AgeBucket.ONE_TO_THREE, 3L);
+        assertThat(statistics.getReconciledAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should replay deltas committed during reconcile onto the new counters exactly once")
+    void shouldReplayDeltasCommittedDuringReconcile() {
+        Pet counted = pet("Labrador");
+        Pet racing = pet("Beagle");
+        service.recordCreated(counted);
+        PetStatisticsProjection row = row("Labrador", 1L);
+        when(petRepository.countByTypeBreedAndBirthDate()).thenAnswer(invocation -> {
+            service.recordCreated(racing);
+            return List.of(row);
+        });
+
+        service.reconcile();
+        PetStatisticsResponseDto statistics = service.getStatistics();
+
+        assertThat(statistics.getTotal()).isEqualTo(2);
+        assertThat(statistics.getByBreed()).containsEntry("Labrador", 1L).containsEntry("Beagle", 1L);
+
+        service.recordDeleted(racing);
+
+        assertThat(service.getStatistics().getTotal()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should move counts between buckets on update and delete")
+    void shouldMoveCountsOnUpdateAndDelete() {
+        Pet pet = Pet.builder()
+                .type(PetType.DOG)
+                .breed("Labrador")
+                .birthDate(LocalDate.now().minusMonths(6))
+                .build();
+        service.recordCreated(pet);
+
+        var before = PetStatisticsService.PetKey.of(pet);
+        pet.setType(PetType.CAT);
+        pet.setBreed("Siamese");
+        service.recordUpdated(before, pet);
+
+        PetStatisticsResponseDto statistics = service.getStatistics();
+        assertThat(statistics.getTotal()).isEqualTo(1);
+        assertThat(statistics.getByType()).containsEntry(PetType.DOG, 0L).containsEntry(PetType.CAT, 1L);
+        assertThat(statistics.getByAgeBucket()).containsEntry(AgeBucket.UNDER_ONE, 1L);
+
+        service.recordDeleted(pet);
+
+        assertThat(service.getStatistics().getTotal()).isZero();
+    }
+
+    private static Pet pet(String breed) {
+        return Pet.builder()
+                .tenantId(TenantContext.DEFAULT_TENANT)
+                .type(PetType.DOG)
+                .breed(breed)
+                .birthDate(LocalDate.now().minusYears(2))
+                .build();
+    }
+
+    private static PetStatisticsProjection row(String breed, long total) {
+        PetStatisticsProjection row = mock(PetStatisticsProjection.class);
+        when(row.getTenantId()).thenReturn(TenantContext.DEFAULT_TENANT);
+        when(row.getType()).thenReturn(PetType.DOG);
+        when(row.getBreed()).thenReturn(breed);
+        when(row.getBirthDate()).thenReturn(LocalDate.now().minusYears(2));
+        when(row.getTotal()).thenReturn(total);
+        return row;
+    }
+}
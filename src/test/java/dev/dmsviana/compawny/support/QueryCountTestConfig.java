@@ -0,0 +1,29 @@
+package dev.dmsviana.compawny.support;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+@TestConfiguration(proxyBeanMethods = false)
+public class QueryCountTestConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlStatementRecordingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // Only the primary "dataSource" bean: wrapping routing targets as well would count statements twice.
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("compawny-query-count")
+                            .listener(new SqlStatementRecorder())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package dev.dmsviana.compawny.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Per-thread, so background work (scheduled refreshes, async reassignments) never leaks into a test's count.
+public final class SqlStatementRecorder implements QueryExecutionListener {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        for (QueryInfo queryInfo : queryInfoList) {
+            STATEMENTS.get().add(queryInfo.getQuery());
+        }
+    }
+
+    static List<String> statements() {
+        return List.copyOf(STATEMENTS.get());
+    }
+
+    static void clear() {
+        STATEMENTS.get().clear();
+    }
+}
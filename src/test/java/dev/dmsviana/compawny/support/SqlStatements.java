@@ -0,0 +1,78 @@
+package dev.dmsviana.compawny.support;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class SqlStatements {
+
+    private SqlStatements() {
+    }
+
+    public static void reset() {
+        SqlStatementRecorder.clear();
+    }
+
+    public static List<String> all() {
+        return SqlStatementRecorder.statements();
+    }
+
+    public static void assertSelectCount(int expected) {
+        assertCount("SELECT", expected);
+    }
+
+    public static void assertInsertCount(int expected) {
+        assertCount("INSERT", expected);
+    }
+
+    public static void assertUpdateCount(int expected) {
+        assertCount("UPDATE", expected);
+    }
+
+    public static void assertDeleteCount(int expected) {
+        assertCount("DELETE", expected);
+    }
+
+    public static void assertTotalCount(int expected) {
+        assertThat(all())
+                .as("SQL statements executed")
+                .hasSize(expected);
+    }
+
+    // The same SELECT issued more than once in a single unit of work is the signature of an N+1 fetch.
+    public static void assertNoRepeatedSelects() {
+        Map<String, Long> repeated = all().stream()
+                .filter(sql -> type(sql).equals("SELECT"))
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+                .entrySet().stream()
+                .filter(entry -> entry.getValue() > 1)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        assertThat(repeated)
+                .as("SELECT statements executed more than once (possible N+1)")
+                .isEmpty();
+    }
+
+    private static void assertCount(String type, int expected) {
+        List<String> matching = all().stream()
+                .filter(sql -> type(sql).equals(type))
+                .toList();
+
+        assertThat(matching)
+                .as("%s statements executed, all statements: %s", type, all())
+                .hasSize(expected);
+    }
+
+    private static String type(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        return trimmed.substring(0, end).toUpperCase(Locale.ROOT);
+    }
+}
@@ -1,9 +1,17 @@
 package dev.dmsviana.compawny.web;
 
+import dev.dmsviana.compawny.business.ratelimit.exception.RateLimitExceededException;
 import dev.dmsviana.compawny.model.repository.exception.EntityAlreadyExistsException;
 import dev.dmsviana.compawny.model.repository.exception.EntityNotFoundException;
 import dev.dmsviana.compawny.presentation.advice.GlobalExceptionHandler;
 import dev.dmsviana.compawny.presentation.dto.error.ErrorResponseDto;
+import dev.dmsviana.compawny.presentation.dto.pet.UpdatePetRequestDto;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,6 +20,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
@@ -21,6 +30,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -32,6 +42,9 @@ class GlobalExceptionHandlerTest {
     @Mock
     private ServletWebRequest webRequest;
 
+    @Mock
+    private Tracer tracer;
+
     @InjectMocks
     private GlobalExceptionHandler exceptionHandler;
 
@@ -80,6 +93,19 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getMessage()).isEqualTo("Ops! Encontramos um conflito nos dados");
     }
 
+    @Test
+    @DisplayName("Should return 429 with Retry-After when handling RateLimitExceededException")
+    void shouldReturn429WhenHandlingRateLimitExceededException() {
+        RateLimitExceededException exception = new RateLimitExceededException("ratelimit.exceeded", 3);
+
+        ResponseEntity<ErrorResponseDto> response = exceptionHandler.handleRateLimitExceeded(exception, webRequest);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo("ratelimit.exceeded");
+    }
+
     @Test
     @DisplayName("Should return 400 when handling MethodArgumentNotValidException")
     void shouldReturn400WhenHandlingMethodArgumentNotValidException() {
@@ -109,6 +135,22 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getMessage()).isEqualTo("Invalid argument");
     }
 
+    @Test
+    @DisplayName("Should return 400 with field errors when handling ConstraintViolationException")
+    void shouldReturn400WhenHandlingConstraintViolationException() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        ConstraintViolationException exception = new ConstraintViolationException(
+                validator.validate(UpdatePetRequestDto.builder().breed("Labrador").build()));
+
+        ResponseEntity<ErrorResponseDto> response = exceptionHandler.handleConstraintViolationException(exception, webRequest);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMetadata()).containsKey("errors");
+        assertThat((Map<?, ?>) response.getBody().getMetadata().get("errors"))
+                .containsKeys("field[name]", "field[type]");
+    }
+
     @Test
     @DisplayName("Should return 500 when handling generic Exception")
     void shouldReturn500WhenHandlingGenericException() {
@@ -122,6 +164,32 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getMetadata()).containsKey("description");
     }
 
+    @Test
+    @DisplayName("Should include the current trace id in the error body")
+    void shouldIncludeCurrentTraceId() {
+        Span span = mock(Span.class);
+        TraceContext context = mock(TraceContext.class);
+        when(tracer.currentSpan()).thenReturn(span);
+        when(span.context()).thenReturn(context);
+        when(context.traceId()).thenReturn("4bf92f3577b34da6a3ce929d0e0e4736");
+
+        ResponseEntity<ErrorResponseDto> response = exceptionHandler.handleEntityNotFound(
+                new EntityNotFoundException("Entity not found"), webRequest);
+
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getTraceId()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+    }
+
+    @Test
+    @DisplayName("Should leave the trace id empty when no span is active")
+    void shouldLeaveTraceIdEmptyWithoutSpan() {
+        ResponseEntity<ErrorResponseDto> response = exceptionHandler.handleEntityNotFound(
+                new EntityNotFoundException("Entity not found"), webRequest);
+
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getTraceId()).isNull();
+    }
+
     private MethodArgumentNotValidException createMethodArgumentNotValidException() {
         BindingResult bindingResult = mock(BindingResult.class);
         FieldError fieldError = new FieldError("object", "name", "Name is required");
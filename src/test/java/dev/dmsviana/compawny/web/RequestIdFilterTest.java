@@ -0,0 +1,101 @@
+package dev.dmsviana.compawny.web;
+
+import dev.dmsviana.compawny.business.logging.MdcTaskDecorator;
+import dev.dmsviana.compawny.presentation.filter.RequestIdFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestIdFilterTest {
+
+    private final RequestIdFilter filter = new RequestIdFilter();
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Nested
+    @DisplayName("Request id")
+    class RequestId {
+
+        @Test
+        @DisplayName("Should reuse the incoming X-Request-Id and echo it on the response")
+        void shouldReuseIncomingRequestId() throws Exception {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(RequestIdFilter.REQUEST_ID_HEADER, "abc-123");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            AtomicReference<String> seen = new AtomicReference<>();
+
+            filter.doFilter(request, response, (req, res) -> seen.set(MDC.get(RequestIdFilter.MDC_KEY)));
+
+            assertThat(seen.get()).isEqualTo("abc-123");
+            assertThat(response.getHeader(RequestIdFilter.REQUEST_ID_HEADER)).isEqualTo("abc-123");
+            assertThat(MDC.get(RequestIdFilter.MDC_KEY)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should replace a request id carrying line breaks or other unsafe characters")
+        void shouldReplaceUnsafeRequestId() throws Exception {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(RequestIdFilter.REQUEST_ID_HEADER, "abc\r\nINFO forged entry");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            filter.doFilter(request, response, (req, res) -> { });
+
+            assertThat(response.getHeader(RequestIdFilter.REQUEST_ID_HEADER))
+                    .doesNotContain("forged")
+                    .matches("[A-Za-z0-9._-]{1,64}");
+        }
+
+        @Test
+        @DisplayName("Should generate a request id when the header is missing or oversized")
+        void shouldGenerateRequestId() throws Exception {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(RequestIdFilter.REQUEST_ID_HEADER, "x".repeat(200));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            filter.doFilter(request, response, (req, res) -> { });
+
+            assertThat(response.getHeader(RequestIdFilter.REQUEST_ID_HEADER))
+                    .isNotBlank()
+                    .hasSizeLessThanOrEqualTo(64);
+        }
+    }
+
+    @Nested
+    @DisplayName("Propagation")
+    class Propagation {
+
+        @Test
+        @DisplayName("Should carry the request id onto executor threads and restore their context")
+        void shouldPropagateMdcToExecutorThreads() throws Exception {
+            var executor = Executors.newSingleThreadExecutor();
+            try {
+                MDC.put(RequestIdFilter.MDC_KEY, "req-1");
+                AtomicReference<String> seen = new AtomicReference<>();
+                Runnable task = new MdcTaskDecorator()
+                        .decorate(() -> seen.set(MDC.get(RequestIdFilter.MDC_KEY)));
+                MDC.clear();
+
+                executor.submit(task).get(5, TimeUnit.SECONDS);
+                String leftover = executor.submit(() -> MDC.get(RequestIdFilter.MDC_KEY)).get(5, TimeUnit.SECONDS);
+
+                assertThat(seen.get()).isEqualTo("req-1");
+                assertThat(leftover).isNull();
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+}